@@ -0,0 +1,62 @@
+package app;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import models.util.Entity;
+import storage.binary.BinaryFileStore;
+import storage.contracts.EntityStore;
+import storage.engine.EntityKind;
+import storage.engine.StorageConfig;
+import storage.repository.JsonFileStore;
+
+public class DataConverter {
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("Використання: DataConverter to-binary|to-json [каталог даних]");
+            return;
+        }
+
+        boolean toBinary = switch (args[0]) {
+            case "to-binary" -> true;
+            case "to-json" -> false;
+            default -> throw new IllegalArgumentException(
+                  "Невідомий напрям конвертації: " + args[0]);
+        };
+        StorageConfig config = args.length > 1
+              ? StorageConfig.defaults().with("data.dir", args[1])
+              : StorageConfig.load(StorageConfig.DEFAULT_PATH);
+
+        for (EntityKind kind : EntityKind.values()) {
+            Path source = Path.of(config.filePath(kind, toBinary ? ".json" : ".bin"));
+            if (!Files.exists(source)) {
+                System.out.printf("%-10s пропущено: немає файлу %s%n", kind.getKey(), source);
+                continue;
+            }
+            Path target = Path.of(config.filePath(kind, toBinary ? ".bin" : ".json"));
+            int count = convert(source, target, kind.getEntityType(), toBinary);
+            System.out.printf("%-10s %d записів%n", kind.getKey(), count);
+        }
+    }
+
+    private static <T extends Entity> int convert(Path sourcePath, Path targetPath,
+          Class<T> entityType, boolean toBinary) {
+        EntityStore<T> source = open(sourcePath, entityType, !toBinary);
+        List<T> entities = source.loadAll();
+        boolean targetExists = Files.exists(targetPath);
+        EntityStore<T> target = open(targetPath, entityType, toBinary);
+        if (entities.isEmpty() && targetExists && !target.loadAll().isEmpty()) {
+            throw new IllegalArgumentException("Файл " + sourcePath
+                  + " порожній, а " + targetPath + " містить дані: конвертацію скасовано");
+        }
+        target.writeAll(entities);
+        return entities.size();
+    }
+
+    private static <T extends Entity> EntityStore<T> open(Path path, Class<T> entityType,
+          boolean binary) {
+        return binary ? new BinaryFileStore<>(path.toString(), entityType)
+              : new JsonFileStore<>(path.toString(), entityType);
+    }
+}
@@ -0,0 +1,88 @@
+package app;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import models.entities.Session;
+import storage.cache.CachedRepository;
+import storage.contracts.SessionRepository;
+import storage.engine.EntityKind;
+import storage.engine.Repositories;
+import storage.engine.StorageBackend;
+import storage.engine.StorageConfig;
+
+public class StorageBenchmark {
+
+    private static final int DEFAULT_OPERATIONS = 200;
+
+    public static void main(String[] args) throws IOException {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_OPERATIONS;
+
+        for (StorageBackend backend : StorageBackend.values()) {
+            Path directory = Files.createTempDirectory("storage-" + backend.getKey());
+            StorageConfig config = StorageConfig.defaults()
+                  .with("data.dir", directory.toString())
+                  .with("backend.default", StorageBackend.CACHED.getKey());
+            for (EntityKind kind : EntityKind.values()) {
+                if (backend.supports(kind)) {
+                    config = config.with("backend." + kind.getKey(), backend.getKey());
+                }
+            }
+            try (Repositories repositories = Repositories.open(config)) {
+                run(backend.getKey(), repositories, operations);
+            }
+        }
+
+        StorageConfig config = StorageConfig.defaults()
+              .with("data.dir", Files.createTempDirectory("storage-write-behind").toString())
+              .with("backend.default", StorageBackend.CACHED.getKey())
+              .with("cache.flush", "write-behind");
+        try (Repositories repositories = Repositories.open(config)) {
+            run("behind", repositories, operations);
+            if (repositories.sessions() instanceof CachedRepository<?> cached) {
+                cached.getWriteBehind().ifPresent(System.out::println);
+            }
+        }
+    }
+
+    private static void run(String label, Repositories repositories, int operations) {
+        SessionRepository sessions = repositories.sessions();
+
+        long started = System.nanoTime();
+        List<Session> saved = new ArrayList<>();
+        for (int i = 0; i < operations; i++) {
+            saved.add(sessions.save(new Session(UUID.randomUUID(), UUID.randomUUID(),
+                  UUID.randomUUID(), UUID.randomUUID(), LocalDateTime.now().minusHours(1),
+                  LocalDateTime.now(), BigDecimal.TEN, false)));
+        }
+        long writeNanos = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        for (Session session : saved) {
+            Session completed = new Session(session.getId(), session.getClientId(),
+                  session.getComputerId(), session.getTariffId(), session.getStartTime(),
+                  LocalDateTime.now(), BigDecimal.ONE, false);
+            completed.setVersion(session.getVersion());
+            sessions.update(completed);
+        }
+        long updateNanos = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        for (Session session : saved) {
+            if (sessions.findById(session.getId()).isEmpty()) {
+                throw new IllegalStateException("Сесію не знайдено після запису: " + label);
+            }
+        }
+        long readNanos = System.nanoTime() - started;
+
+        System.out.printf(
+              "%-8s записів: %d, запис: %.2f мс/оп, оновлення: %.2f мс/оп, читання: %.4f мс/оп%n",
+              label, operations, writeNanos / 1_000_000.0 / operations,
+              updateNanos / 1_000_000.0 / operations, readNanos / 1_000_000.0 / operations);
+    }
+}
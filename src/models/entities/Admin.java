@@ -1,5 +1,6 @@
 package models.entities;
 
+import java.util.UUID;
 import models.util.BaseEntity;
 
 public class Admin extends BaseEntity {
@@ -14,6 +15,13 @@ public class Admin extends BaseEntity {
         this.email = email;
     }
 
+    public Admin(UUID id, String login, String password, String email) {
+        super(id);
+        this.login = login;
+        this.password = password;
+        this.email = email;
+    }
+
     public String getLogin() {
         return login;
     }
@@ -1,5 +1,6 @@
 package models.entities;
 
+import java.util.UUID;
 import models.enums.ComputerStatus;
 import models.enums.ComputerType;
 import models.util.BaseEntity;
@@ -17,6 +18,14 @@ public class Computer extends BaseEntity {
         this.computerStatus = computerStatus;
     }
 
+    public Computer(UUID id, int number, ComputerType computerType,
+          ComputerStatus computerStatus) {
+        super(id);
+        this.number = number;
+        this.computerType = computerType;
+        this.computerStatus = computerStatus;
+    }
+
     public int getNumber() {
         return number;
     }
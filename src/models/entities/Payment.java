@@ -21,6 +21,15 @@ public class Payment extends BaseEntity {
         this.paymentType = paymentType;
     }
 
+    public Payment(UUID id, UUID sessionId, BigDecimal amount, LocalDateTime paymentTime,
+          PaymentType paymentType) {
+        super(id);
+        this.sessionId = sessionId;
+        this.amount = amount;
+        this.paymentTime = paymentTime;
+        this.paymentType = paymentType;
+    }
+
     public UUID getSessionId() {
         return sessionId;
     }
@@ -2,6 +2,7 @@ package models.entities;
 
 import java.math.BigDecimal;
 import java.time.LocalTime;
+import java.util.UUID;
 import models.util.BaseEntity;
 
 public class Tariff extends BaseEntity {
@@ -22,6 +23,16 @@ public class Tariff extends BaseEntity {
         this.isNightTariff = isNightTariff;
     }
 
+    public Tariff(UUID id, String name, BigDecimal pricePerHour, LocalTime startHour,
+          LocalTime endHour, boolean isNightTariff) {
+        super(id);
+        this.name = name;
+        this.pricePerHour = pricePerHour;
+        this.startHour = startHour;
+        this.endHour = endHour;
+        this.isNightTariff = isNightTariff;
+    }
+
     public String getName() {
         return name;
     }
@@ -0,0 +1,41 @@
+package models.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+
+public enum CohortPeriod {
+    WEEK("Тиждень", DateTimeFormatter.ofPattern("yyyy-MM-dd")),
+    MONTH("Місяць", DateTimeFormatter.ofPattern("yyyy-MM"));
+
+    private final String label;
+    private final DateTimeFormatter formatter;
+
+    CohortPeriod(String label, DateTimeFormatter formatter) {
+        this.label = label;
+        this.formatter = formatter;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public LocalDate startOf(LocalDate date) {
+        return this == WEEK
+              ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+              : date.withDayOfMonth(1);
+    }
+
+    public LocalDate next(LocalDate start) {
+        return this == WEEK ? start.plusWeeks(1) : start.plusMonths(1);
+    }
+
+    public LocalDate minus(LocalDate start, int periods) {
+        return this == WEEK ? start.minusWeeks(periods) : start.minusMonths(periods);
+    }
+
+    public String format(LocalDate start) {
+        return start.format(formatter);
+    }
+}
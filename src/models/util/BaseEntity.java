@@ -9,6 +9,8 @@ public abstract class BaseEntity implements Entity {
 
     protected final UUID id;
 
+    protected long version;
+
     protected Map<String, List<String>> errors;
 
     protected BaseEntity() {
@@ -24,6 +26,16 @@ public abstract class BaseEntity implements Entity {
         return id;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) {
@@ -5,4 +5,8 @@ import java.util.UUID;
 public interface Entity {
 
     UUID getId();
+
+    long getVersion();
+
+    void setVersion(long version);
 }
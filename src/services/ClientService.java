@@ -1,12 +1,19 @@
 package services;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.UUID;
 import models.entities.Client;
+import models.enums.CohortPeriod;
 import storage.contracts.ClientRepository;
+import storage.query.Attributes;
+import storage.query.Criteria;
+import storage.uow.OptimisticRetry;
+import storage.uow.Transaction;
 import storage.uow.UnitOfWork;
 import validation.ClientValidator;
 import validation.ValidationResult;
@@ -48,82 +55,110 @@ public class ClientService {
     }
 
     public void addBalance(UUID clientId, BigDecimal amount) {
-
-        Optional<Client> clientOpt = clientRepository.findById(clientId);
-        if (clientOpt.isEmpty()) {
-            throw new IllegalArgumentException("Клієнта не знайдено");
-        }
-
-        Client client = clientOpt.get();
-        BigDecimal newBalance = client.getBalance().add(amount);
-        client.setBalance(newBalance);
-
-        ValidationResult result = clientValidator.validateAddBalance(client, amount);
-
-        if (result.isValid()) {
-            uow.registerDirty(client);
-            uow.commit();
-            System.out.println("Баланс поповнено на " + amount + " грн. Поточний баланс: " +
-                  newBalance + " грн");
-        } else {
-            System.out.println("✗ Помилки валідації:");
-            System.out.println(result.getErrorMessage());
-        }
+        OptimisticRetry.run(() -> {
+            Optional<Client> clientOpt = clientRepository.findById(clientId);
+            if (clientOpt.isEmpty()) {
+                throw new IllegalArgumentException("Клієнта не знайдено");
+            }
+
+            Client client = clientOpt.get();
+            BigDecimal newBalance = client.getBalance().add(amount);
+            client.setBalance(newBalance);
+
+            ValidationResult result = clientValidator.validateAddBalance(client, amount);
+
+            if (result.isValid()) {
+                uow.registerDirty(client);
+                uow.commit();
+                System.out.println("Баланс поповнено на " + amount + " грн. Поточний баланс: " +
+                      newBalance + " грн");
+            } else {
+                System.out.println("✗ Помилки валідації:");
+                System.out.println(result.getErrorMessage());
+            }
+        });
     }
 
     public void deductBalance(UUID clientId, BigDecimal amount) {
-        Optional<Client> clientOpt = clientRepository.findById(clientId);
-        if (clientOpt.isEmpty()) {
-            throw new IllegalArgumentException("Клієнта не знайдено");
-        }
+        OptimisticRetry.run(() -> {
+            Optional<Client> clientOpt = clientRepository.findById(clientId);
+            if (clientOpt.isEmpty()) {
+                throw new IllegalArgumentException("Клієнта не знайдено");
+            }
 
-        Client client = clientOpt.get();
+            Client client = clientOpt.get();
 
-        BigDecimal newBalance = client.getBalance().subtract(amount);
+            BigDecimal newBalance = client.getBalance().subtract(amount);
 
-        ValidationResult result = clientValidator.validateDeduct(client, amount);
+            ValidationResult result = clientValidator.validateDeduct(client, amount);
 
-        client.setBalance(newBalance);
+            client.setBalance(newBalance);
 
-        if (result.isValid()) {
-            uow.registerDirty(client);
-            uow.commit();
-            System.out.println("Списано " + amount + " грн. Залишок: " + newBalance + " грн");
-        } else {
-            System.out.println("✗ Помилки валідації:");
-            System.out.println(result.getErrorMessage());
-        }
+            if (result.isValid()) {
+                uow.registerDirty(client);
+                uow.commit();
+                System.out.println("Списано " + amount + " грн. Залишок: " + newBalance + " грн");
+            } else {
+                System.out.println("✗ Помилки валідації:");
+                System.out.println(result.getErrorMessage());
+            }
+        });
     }
 
-    public void registerVisit(UUID clientId) {
-        Optional<Client> clientOpt = clientRepository.findById(clientId);
-        if (clientOpt.isEmpty()) {
-            throw new IllegalArgumentException("Клієнта не знайдено");
+    public Client chargeVisit(UUID clientId, BigDecimal amount, Transaction transaction) {
+        Client client = transaction.find(clientRepository, clientId)
+              .orElseThrow(() -> new IllegalArgumentException("Клієнта не знайдено"));
+
+        ValidationResult deductResult = clientValidator.validateDeduct(client, amount);
+        if (!deductResult.isValid()) {
+            throw new IllegalArgumentException(deductResult.getErrorMessage());
         }
+        client.setBalance(client.getBalance().subtract(amount));
 
-        Client client = clientOpt.get();
         int newVisitCount = client.getVisitCount() + 1;
-
-        BigDecimal newDiscount = calculateLoyaltyDiscount(newVisitCount);
-
         client.setVisitCount(newVisitCount);
-        client.setDiscountPercent(newDiscount);
-
-        ValidationResult result = clientValidator.validateRegisterVisit(client);
+        client.setDiscountPercent(calculateLoyaltyDiscount(newVisitCount));
 
-        String message = "Візит зареєстровано. Всього відвідувань: " + newVisitCount;
-        if (newDiscount.compareTo(client.getDiscountPercent()) > 0) {
-            message += ". Знижка збільшена до " + newDiscount + "%!";
+        ValidationResult visitResult = clientValidator.validateRegisterVisit(client);
+        if (!visitResult.isValid()) {
+            throw new IllegalArgumentException(visitResult.getErrorMessage());
         }
 
-        if (result.isValid()) {
-            uow.registerDirty(client);
-            uow.commit();
-            System.out.println(message);
-        } else {
-            System.out.println("✗ Помилки валідації:");
-            System.out.println(result.getErrorMessage());
-        }
+        transaction.registerDirty(clientRepository, client);
+        return client;
+    }
+
+    public void registerVisit(UUID clientId) {
+        OptimisticRetry.run(() -> {
+            Optional<Client> clientOpt = clientRepository.findById(clientId);
+            if (clientOpt.isEmpty()) {
+                throw new IllegalArgumentException("Клієнта не знайдено");
+            }
+
+            Client client = clientOpt.get();
+            int newVisitCount = client.getVisitCount() + 1;
+
+            BigDecimal newDiscount = calculateLoyaltyDiscount(newVisitCount);
+
+            client.setVisitCount(newVisitCount);
+            client.setDiscountPercent(newDiscount);
+
+            ValidationResult result = clientValidator.validateRegisterVisit(client);
+
+            String message = "Візит зареєстровано. Всього відвідувань: " + newVisitCount;
+            if (newDiscount.compareTo(client.getDiscountPercent()) > 0) {
+                message += ". Знижка збільшена до " + newDiscount + "%!";
+            }
+
+            if (result.isValid()) {
+                uow.registerDirty(client);
+                uow.commit();
+                System.out.println(message);
+            } else {
+                System.out.println("✗ Помилки валідації:");
+                System.out.println(result.getErrorMessage());
+            }
+        });
     }
 
     public void setCustomDiscount(UUID clientId, BigDecimal discountPercent) {
@@ -148,17 +183,21 @@ public class ClientService {
     }
 
     public List<Client> findVipClients() {
-        return clientRepository.findAll().stream()
-              .filter(client -> client.getDiscountPercent()
-                    .compareTo(new BigDecimal("15")) >= 0)
-              .toList();
+        return clientRepository.findAll(
+              Criteria.atLeast(Attributes.CLIENT_DISCOUNT, new BigDecimal("15")));
     }
 
     public List<Client> findNewClients(int days) {
         LocalDateTime threshold = LocalDateTime.now().minusDays(days);
-        return clientRepository.findAll().stream()
-              .filter(client -> client.getRegistrationDate().isAfter(threshold))
-              .toList();
+        return clientRepository.findByRegistrationDateBetween(threshold.plusNanos(1),
+              LocalDateTime.MAX);
+    }
+
+    public NavigableMap<LocalDate, Integer> getRegistrationCohorts(CohortPeriod period,
+          int periods) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = period.minus(period.startOf(today), Math.max(1, periods) - 1);
+        return clientRepository.countByRegistrationCohort(period, from, today);
     }
 
     public Optional<Client> findByEmail(String email) {
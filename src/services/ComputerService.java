@@ -7,6 +7,8 @@ import models.entities.Computer;
 import models.enums.ComputerStatus;
 import models.enums.ComputerType;
 import storage.contracts.ComputerRepository;
+import storage.uow.OptimisticRetry;
+import storage.uow.Transaction;
 import storage.uow.UnitOfWork;
 import validation.ComputerValidator;
 import validation.ValidationResult;
@@ -39,18 +41,20 @@ public class ComputerService {
     }
 
     public void updateComputerStatus(UUID computerId, ComputerStatus status) {
-        Optional<Computer> existingComputer = computerRepository.findById(computerId);
+        OptimisticRetry.run(() -> {
+            Optional<Computer> existingComputer = computerRepository.findById(computerId);
 
-        if (existingComputer.isEmpty()) {
-            throw new IllegalArgumentException("Комп'ютер з ID " + computerId +
-                  " не знайдено");
-        }
+            if (existingComputer.isEmpty()) {
+                throw new IllegalArgumentException("Комп'ютер з ID " + computerId +
+                      " не знайдено");
+            }
 
-        Computer computer = existingComputer.get();
-        computer.setComputerStatus(status);
+            Computer computer = existingComputer.get();
+            computer.setComputerStatus(status);
 
-        uow.registerDirty(computer);
-        uow.commit();
+            uow.registerDirty(computer);
+            uow.commit();
+        });
     }
 
     public void deleteComputer(UUID computerId) {
@@ -71,24 +75,37 @@ public class ComputerService {
     }
 
     public void occupyComputer(UUID computerId) {
-        Optional<Computer> computerOpt = computerRepository.findById(computerId);
-        if (computerOpt.isEmpty()) {
-            throw new IllegalArgumentException("Комп'ютер не знайдено");
-        }
+        OptimisticRetry.run(() -> {
+            Optional<Computer> computerOpt = computerRepository.findById(computerId);
+            if (computerOpt.isEmpty()) {
+                throw new IllegalArgumentException("Комп'ютер не знайдено");
+            }
+
+            Computer computer = computerOpt.get();
+            if (computer.getComputerStatus() != ComputerStatus.FREE) {
+                throw new IllegalArgumentException("Комп'ютер недоступний. Поточний статус: "
+                      + computer.getComputerStatus());
+            }
+
+            computer.setComputerStatus(ComputerStatus.BUSY);
+            uow.registerDirty(computer);
+            uow.commit();
+        });
+    }
 
-        Computer computer = computerOpt.get();
-        if (computer.getComputerStatus() != ComputerStatus.FREE) {
-            throw new IllegalArgumentException("\"Комп'ютер недоступний. Поточний статус: \" +\n"
-                  + "                        computer.getComputerStatus()");
-        }
+    public void freeComputer(UUID computerId) {
+        OptimisticRetry.run(() -> {
+            uow.registerDirty(release(computerRepository.findById(computerId)));
+            uow.commit();
+        });
+    }
 
-        computer.setComputerStatus(ComputerStatus.BUSY);
-        uow.registerDirty(computer);
-        uow.commit();
+    public void freeComputer(UUID computerId, Transaction transaction) {
+        transaction.registerDirty(computerRepository,
+              release(transaction.find(computerRepository, computerId)));
     }
 
-    public void freeComputer(UUID computerId) {
-        Optional<Computer> computerOpt = computerRepository.findById(computerId);
+    private Computer release(Optional<Computer> computerOpt) {
         if (computerOpt.isEmpty()) {
             throw new IllegalArgumentException("Комп'ютер не знайдено");
         }
@@ -101,14 +118,21 @@ public class ComputerService {
         }
 
         computer.setComputerStatus(ComputerStatus.FREE);
-        uow.registerDirty(computer);
-        uow.commit();
+        return computer;
     }
 
     public List<Computer> getAllComputers() {
         return computerRepository.findAll();
     }
 
+    public List<Computer> getComputersByStatus(ComputerStatus status) {
+        return computerRepository.findByComputerStatus(status);
+    }
+
+    public List<Computer> getComputersByStatus(ComputerStatus status, ComputerType type) {
+        return computerRepository.findByStatusAndType(status, type);
+    }
+
     public boolean isAvailable(UUID computerId) {
         Optional<Computer> computerOpt = computerRepository.findById(computerId);
         if (computerOpt.isEmpty()) {
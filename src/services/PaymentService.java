@@ -3,6 +3,7 @@ package services;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import models.entities.Payment;
 import models.enums.PaymentType;
@@ -37,12 +38,13 @@ public class PaymentService {
         }
     }
 
+    public Optional<Payment> findPaymentBySession(UUID sessionId) {
+        return paymentRepository.findBySessionId(sessionId);
+    }
+
     public List<Payment> findPaymentsBetween(LocalDateTime start,
           LocalDateTime end) {
-        return paymentRepository.findAll().stream()
-              .filter(p -> !p.getPaymentTime().isBefore(start) &&
-                    !p.getPaymentTime().isAfter(end))
-              .toList();
+        return paymentRepository.findByPaymentTimeBetween(start, end);
     }
 
     public PaymentStatistics getStatistics(LocalDateTime start, LocalDateTime end) {
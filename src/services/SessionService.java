@@ -16,6 +16,9 @@ import storage.contracts.ComputerRepository;
 import storage.contracts.PaymentRepository;
 import storage.contracts.SessionRepository;
 import storage.contracts.TariffRepository;
+import storage.uow.OptimisticRetry;
+import storage.uow.Transaction;
+import storage.uow.TransactionLog;
 import storage.uow.UnitOfWork;
 import validation.SessionValidator;
 import validation.ValidationResult;
@@ -24,12 +27,14 @@ public class SessionService {
 
     private final SessionRepository sessionRepository;
     private final PaymentRepository paymentRepository;
+    private final ClientRepository clientRepository;
+    private final TariffRepository tariffRepository;
     private final ClientService clientService;
     private final ComputerService computerService;
     private final TariffService tariffService;
     private final SessionValidator sessionValidator;
     private final UnitOfWork<Session, UUID> uow;
-    private final UnitOfWork<Payment, UUID> uowPayment;
+    private final TransactionLog transactionLog;
 
     public SessionService(SessionRepository sessionRepository,
           ClientService clientService,
@@ -38,16 +43,19 @@ public class SessionService {
           ClientRepository clientRepository,
           ComputerRepository computerRepository,
           TariffRepository tariffRepository,
-          PaymentRepository paymentRepository) {
+          PaymentRepository paymentRepository,
+          TransactionLog transactionLog) {
         this.sessionRepository = sessionRepository;
         this.paymentRepository = paymentRepository;
+        this.clientRepository = clientRepository;
+        this.tariffRepository = tariffRepository;
         this.clientService = clientService;
         this.computerService = computerService;
         this.tariffService = tariffService;
         this.sessionValidator = new SessionValidator(sessionRepository, clientRepository,
               computerRepository, tariffRepository);
         this.uow = new UnitOfWork<>(sessionRepository, Session::getId);
-        this.uowPayment = new UnitOfWork<>(paymentRepository, Payment::getId);
+        this.transactionLog = transactionLog;
     }
 
     public void startSession(UUID clientId, UUID computerId, UUID tariffId) {
@@ -67,54 +75,58 @@ public class SessionService {
     }
 
     public void endSession(UUID sessionId) {
-        Optional<Session> sessionOpt = sessionRepository.findById(sessionId);
-        if (sessionOpt.isEmpty()) {
-            throw new IllegalArgumentException("Сесію не знайдено");
-        }
-
-        Session session = sessionOpt.get();
-
-        if (session.getEndTime() != null) {
-            throw new IllegalArgumentException("Сесія вже завершена");
-        }
-
-        LocalDateTime endTime = LocalDateTime.now();
-
-        long minutes = Duration.between(session.getStartTime(), endTime)
-              .toMinutes();
-        if (minutes < 1) {
-            minutes = 1;
-        }
-
-        Tariff tariff = getTariff(session.getTariffId());
-        Client client = getClient(session.getClientId());
-
-        BigDecimal totalCost = tariffService.calculateCost(tariff, minutes,
-              client.getDiscountPercent());
-
-        Session completedSession = new Session(session.getId(), session.getClientId(),
-              session.getComputerId(), session.getTariffId(), session.getStartTime(),
-              endTime, totalCost, false);
+        OptimisticRetry.run(() -> {
+            Transaction transaction = new Transaction(transactionLog);
+            Optional<Session> sessionOpt = transaction.find(sessionRepository, sessionId);
+            if (sessionOpt.isEmpty()) {
+                throw new IllegalArgumentException("Сесію не знайдено");
+            }
+
+            Session session = sessionOpt.get();
+
+            if (session.getEndTime() != null) {
+                throw new IllegalArgumentException("Сесія вже завершена");
+            }
+
+            LocalDateTime endTime = LocalDateTime.now();
+
+            long minutes = Duration.between(session.getStartTime(), endTime)
+                  .toMinutes();
+            if (minutes < 1) {
+                minutes = 1;
+            }
+
+            Tariff tariff = getTariff(session.getTariffId(), transaction);
+            Client client = getClient(session.getClientId(), transaction);
+
+            BigDecimal totalCost = tariffService.calculateCost(tariff, minutes,
+                  client.getDiscountPercent());
+
+            Session completedSession = new Session(session.getId(), session.getClientId(),
+                  session.getComputerId(), session.getTariffId(), session.getStartTime(),
+                  endTime, totalCost, false);
+            completedSession.setVersion(session.getVersion());
+
+            ValidationResult result = sessionValidator.validate(completedSession);
+            if (!result.isValid()) {
+                System.out.println("✗ Помилки валідації:");
+                System.out.println(result.getErrorMessage());
+                return;
+            }
+
+            Payment payment = new Payment(completedSession.getId(), totalCost, PaymentType.CASH);
+
+            transaction.registerDirty(sessionRepository, completedSession);
+            transaction.registerNew(paymentRepository, payment);
+            Client charged = clientService.chargeVisit(session.getClientId(), totalCost,
+                  transaction);
+            computerService.freeComputer(session.getComputerId(), transaction);
+            transaction.commit();
 
-        ValidationResult result = sessionValidator.validate(completedSession);
-        clientService.deductBalance(session.getClientId(), totalCost);
-        computerService.freeComputer(session.getComputerId());
-
-        Payment payment = new Payment(completedSession.getId(), totalCost, PaymentType.CASH);
-
-        if (result.isValid()) {
-            uow.registerDirty(completedSession);
-            uowPayment.registerNew(payment);
-            uow.commit();
-            uowPayment.commit();
-            clientService.registerVisit(session.getClientId());
             System.out.println(
                   "✓ Сесію завершено. Тривалість : " + minutes + " хв. Вартість: " + totalCost
-                        + " грн");
-        } else {
-            System.out.println("✗ Помилки валідації:");
-            System.out.println(result.getErrorMessage());
-        }
+                        + " грн. Залишок: " + charged.getBalance() + " грн");
+        });
     }
 
     public void forceEndSession(UUID sessionId,
@@ -127,56 +139,41 @@ public class SessionService {
     }
 
     public Optional<Session> findActiveSessionByClient(UUID clientId) {
-        return sessionRepository.findAll().stream()
-              .filter(s -> s.getClientId().equals(clientId) &&
-                    s.getEndTime() == null)
-              .findFirst();
+        return sessionRepository.findActiveByClientId(clientId);
     }
 
     public Optional<Session> findActiveSessionByComputer(UUID computerId) {
-        return sessionRepository.findAll().stream()
-              .filter(s -> s.getComputerId().equals(computerId) &&
-                    s.getEndTime() == null)
-              .findFirst();
+        return sessionRepository.findActiveByComputerId(computerId);
     }
 
     public List<Session> findActiveSessions() {
-        return sessionRepository.findAll().stream()
-              .filter(session -> session.isActive())
-              .toList();
+        return sessionRepository.findActive();
+    }
+
+    public List<Session> findSessionsByClient(UUID clientId) {
+        return sessionRepository.findByClientId(clientId);
     }
 
-    public List<Session> findSessionsByClient(String clientId) {
-        return sessionRepository.findAll().stream()
-              .filter(s -> s.getClientId().equals(clientId))
-              .toList();
+    public List<Session> findRecentSessionsByClient(UUID clientId, int page, int pageSize) {
+        return sessionRepository.findByClientId(clientId, page * pageSize, pageSize);
     }
 
-    public List<Session> findSessionsByComputer(String computerId) {
-        return sessionRepository.findAll().stream()
-              .filter(s -> s.getComputerId().equals(computerId))
-              .toList();
+    public List<Session> findSessionsByComputer(UUID computerId) {
+        return sessionRepository.findByComputerId(computerId);
     }
 
     public List<Session> findSessionsBetween(LocalDateTime start,
           LocalDateTime end) {
-        return sessionRepository.findAll().stream()
-              .filter(s -> !s.getStartTime().isBefore(start) &&
-                    !s.getStartTime().isAfter(end))
-              .toList();
+        return sessionRepository.findByStartTimeBetween(start, end);
     }
 
-    private Tariff getTariff(UUID tariffId) {
-        return tariffService.getAllTariffs().stream()
-              .filter(t -> t.getId().equals(tariffId))
-              .findFirst()
+    private Tariff getTariff(UUID tariffId, Transaction transaction) {
+        return transaction.find(tariffRepository, tariffId)
               .orElseThrow(() -> new RuntimeException("Тариф не знайдено"));
     }
 
-    private Client getClient(UUID clientId) {
-        return clientService.getAllClients().stream()
-              .filter(c -> c.getId().equals(clientId))
-              .findFirst()
+    private Client getClient(UUID clientId, Transaction transaction) {
+        return transaction.find(clientRepository, clientId)
               .orElseThrow(() -> new RuntimeException("Клієнта не знайдено"));
     }
 }
@@ -2,6 +2,7 @@ package services;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
@@ -80,6 +81,10 @@ public class TariffService {
         return finalCost;
     }
 
+    public Optional<Tariff> findCurrentTariff(LocalDateTime now) {
+        return tariffRepository.findCurrentTariff(now);
+    }
+
     public List<Tariff> getAllTariffs() {
         return tariffRepository.findAll();
     }
@@ -0,0 +1,19 @@
+package storage.archive;
+
+import java.time.Duration;
+
+public record ArchiveOptions(Duration maxAge, Duration interval) {
+
+    public ArchiveOptions {
+        if (maxAge == null || maxAge.isNegative()) {
+            throw new IllegalArgumentException("Вік архівування не може бути від'ємним");
+        }
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("Інтервал архівування повинен бути додатним");
+        }
+    }
+
+    public static ArchiveOptions defaults() {
+        return new ArchiveOptions(Duration.ofDays(90), Duration.ofHours(1));
+    }
+}
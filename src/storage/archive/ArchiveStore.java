@@ -0,0 +1,198 @@
+package storage.archive;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import models.util.Entity;
+import storage.repository.GroupCommitWriter;
+import storage.util.GsonFactory;
+
+public class ArchiveStore<T extends Entity> {
+
+    private static final String INDEX_FILE = "segments.json";
+    private static final Type SUMMARY_LIST = new TypeToken<List<SegmentSummary>>() {
+    }.getType();
+
+    private final Path directory;
+    private final Type listType;
+    private final Function<T, LocalDateTime> timeOf;
+    private final Function<T, UUID> keyOf;
+    private final GroupCommitWriter writer;
+    private final Gson gson = GsonFactory.builder().create();
+    private final List<SegmentSummary> segments = new ArrayList<>();
+
+    public ArchiveStore(String directory, Class<T> entityType, Function<T, LocalDateTime> timeOf,
+          GroupCommitWriter writer) {
+        this(directory, entityType, timeOf, null, writer);
+    }
+
+    public ArchiveStore(String directory, Class<T> entityType, Function<T, LocalDateTime> timeOf,
+          Function<T, UUID> keyOf, GroupCommitWriter writer) {
+        this.directory = Path.of(directory);
+        this.listType = TypeToken.getParameterized(List.class, entityType).getType();
+        this.timeOf = timeOf;
+        this.keyOf = keyOf;
+        this.writer = writer;
+        loadIndex();
+    }
+
+    private void loadIndex() {
+        Path index = directory.resolve(INDEX_FILE);
+        if (!Files.exists(index)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(index, StandardCharsets.UTF_8)) {
+            List<SegmentSummary> stored = gson.fromJson(reader, SUMMARY_LIST);
+            if (stored != null) {
+                segments.addAll(stored);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка читання архіву: " + index, e);
+        }
+    }
+
+    public synchronized void append(Collection<T> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        LocalDateTime min = entities.stream().map(timeOf).min(Comparator.naturalOrder()).get();
+        LocalDateTime max = entities.stream().map(timeOf).max(Comparator.naturalOrder()).get();
+        String fileName = String.format("segment-%06d.json.gz", nextSegmentNumber());
+
+        writer.replace(directory.resolve(fileName), compress(entities));
+        List<SegmentSummary> updated = new ArrayList<>(segments);
+        SegmentFilter ids = SegmentFilter.of(entities.stream().map(Entity::getId).toList());
+        SegmentFilter keys = keyOf == null ? null : SegmentFilter.of(
+              entities.stream().map(keyOf).filter(Objects::nonNull).toList());
+        updated.add(new SegmentSummary(fileName, min, max, entities.size(), ids, keys));
+        writer.replace(directory.resolve(INDEX_FILE),
+              gson.toJson(updated, SUMMARY_LIST).getBytes(StandardCharsets.UTF_8));
+        segments.add(updated.getLast());
+    }
+
+    private int nextSegmentNumber() {
+        return segments.size() + 1;
+    }
+
+    public synchronized List<T> findBetween(LocalDateTime start, LocalDateTime end) {
+        List<T> result = new ArrayList<>();
+        for (SegmentSummary segment : segments) {
+            if (segment.overlaps(start, end)) {
+                for (T entity : read(segment)) {
+                    LocalDateTime time = timeOf.apply(entity);
+                    if (!time.isBefore(start) && !time.isAfter(end)) {
+                        result.add(entity);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public synchronized List<T> filter(Predicate<T> predicate) {
+        List<T> result = new ArrayList<>();
+        for (SegmentSummary segment : segments) {
+            for (T entity : read(segment)) {
+                if (predicate.test(entity)) {
+                    result.add(entity);
+                }
+            }
+        }
+        return result;
+    }
+
+    public synchronized Optional<T> findById(UUID id) {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            SegmentSummary segment = segments.get(i);
+            if (segment.mightContainId(id)) {
+                for (T entity : read(segment)) {
+                    if (entity.getId().equals(id)) {
+                        return Optional.of(entity);
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public synchronized Optional<T> findByKey(UUID key) {
+        if (keyOf == null) {
+            throw new IllegalArgumentException("Архів не має ключа пошуку: " + directory);
+        }
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            SegmentSummary segment = segments.get(i);
+            if (segment.mightContainKey(key)) {
+                for (T entity : read(segment)) {
+                    if (key.equals(keyOf.apply(entity))) {
+                        return Optional.of(entity);
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public synchronized List<T> findAllByKey(UUID key) {
+        if (keyOf == null) {
+            throw new IllegalArgumentException("Архів не має ключа пошуку: " + directory);
+        }
+        List<T> result = new ArrayList<>();
+        for (SegmentSummary segment : segments) {
+            if (segment.mightContainKey(key)) {
+                for (T entity : read(segment)) {
+                    if (Objects.equals(key, keyOf.apply(entity))) {
+                        result.add(entity);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public synchronized List<SegmentSummary> getSegments() {
+        return List.copyOf(segments);
+    }
+
+    private byte[] compress(Collection<T> entities) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer out = new OutputStreamWriter(new GZIPOutputStream(bytes),
+              StandardCharsets.UTF_8)) {
+            gson.toJson(entities, listType, out);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка стиснення архіву", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<T> read(SegmentSummary segment) {
+        Path file = directory.resolve(segment.fileName());
+        try (Reader reader = new InputStreamReader(
+              new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8)) {
+            List<T> entities = gson.fromJson(reader, listType);
+            return entities != null ? entities : List.of();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка читання архіву: " + file, e);
+        }
+    }
+}
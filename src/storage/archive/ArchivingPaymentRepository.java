@@ -0,0 +1,52 @@
+package storage.archive;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import models.entities.Payment;
+import models.enums.PaymentType;
+import storage.contracts.PaymentRepository;
+
+public class ArchivingPaymentRepository extends ArchivingRepository<Payment, PaymentRepository>
+      implements PaymentRepository {
+
+    public ArchivingPaymentRepository(PaymentRepository hot, ArchiveStore<Payment> archive,
+          ArchiveOptions options) {
+        super(hot, archive, options);
+    }
+
+    @Override
+    protected boolean isArchivable(Payment payment, LocalDateTime cutoff) {
+        return payment.getPaymentTime().isBefore(cutoff);
+    }
+
+    @Override
+    public Optional<Payment> findBySessionId(UUID sessionId) {
+        if (sessionId == null) {
+            return Optional.empty();
+        }
+        Optional<Payment> found = hot.findBySessionId(sessionId);
+        return found.isPresent() ? found : archive.findByKey(sessionId);
+    }
+
+    @Override
+    public BigDecimal getTotalRevenue(LocalDateTime date) {
+        LocalDateTime start = date.toLocalDate().atStartOfDay();
+        return findByPaymentTimeBetween(start, start.plusDays(1).minusNanos(1)).stream()
+              .map(Payment::getAmount)
+              .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Override
+    public List<Payment> findByType(PaymentType type) {
+        return merge(hot.findByType(type),
+              archive.filter(payment -> payment.getPaymentType() == type));
+    }
+
+    @Override
+    public List<Payment> findByPaymentTimeBetween(LocalDateTime start, LocalDateTime end) {
+        return merge(hot.findByPaymentTimeBetween(start, end), archive.findBetween(start, end));
+    }
+}
@@ -0,0 +1,133 @@
+package storage.archive;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import models.util.Entity;
+import storage.contracts.Repository;
+
+public abstract class ArchivingRepository<T extends Entity, R extends Repository<T>> implements
+      Repository<T>, AutoCloseable {
+
+    protected final R hot;
+    protected final ArchiveStore<T> archive;
+
+    private final ArchiveOptions options;
+
+    private ScheduledExecutorService archiver;
+
+    protected ArchivingRepository(R hot, ArchiveStore<T> archive, ArchiveOptions options) {
+        this.hot = hot;
+        this.archive = archive;
+        this.options = options;
+    }
+
+    public synchronized void start() {
+        if (archiver != null) {
+            return;
+        }
+        archiver = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = options.interval().toMillis();
+        archiver.scheduleWithFixedDelay(this::archiveQuietly, intervalMillis, intervalMillis,
+              TimeUnit.MILLISECONDS);
+    }
+
+    protected abstract boolean isArchivable(T entity, LocalDateTime cutoff);
+
+    public synchronized int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(options.maxAge());
+        List<T> cold;
+        try (Stream<T> entities = hot.stream()) {
+            cold = entities.filter(entity -> isArchivable(entity, cutoff)).toList();
+        }
+        archive.append(cold);
+        hot.applyChanges(List.of(), List.of(), cold.stream().map(Entity::getId).toList());
+        return cold.size();
+    }
+
+    private void archiveQuietly() {
+        try {
+            archive();
+        } catch (RuntimeException e) {
+            System.out.println("✗ Помилка архівування: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public T save(T entity) {
+        return hot.save(entity);
+    }
+
+    @Override
+    public T update(T entity) {
+        return hot.update(entity);
+    }
+
+    @Override
+    public void delete(UUID id) {
+        hot.delete(id);
+    }
+
+    @Override
+    public void applyChanges(Collection<T> created, Collection<T> updated,
+          Collection<UUID> deleted) {
+        hot.applyChanges(created, updated, deleted);
+    }
+
+    @Override
+    public CompletableFuture<Void> submitChanges(Collection<T> created, Collection<T> updated,
+          Collection<UUID> deleted) {
+        return hot.submitChanges(created, updated, deleted);
+    }
+
+    @Override
+    public Optional<T> findById(UUID id) {
+        Optional<T> found = hot.findById(id);
+        return found.isPresent() ? found : archive.findById(id);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return merge(hot.findAll(), archive.filter(entity -> true));
+    }
+
+    protected List<T> merge(List<T> hotEntities, List<T> coldEntities) {
+        List<T> result = new ArrayList<>(coldEntities.size() + hotEntities.size());
+        Set<UUID> seen = new HashSet<>();
+        for (T entity : hotEntities) {
+            seen.add(entity.getId());
+        }
+        for (T entity : coldEntities) {
+            if (seen.add(entity.getId())) {
+                result.add(entity);
+            }
+        }
+        result.addAll(hotEntities);
+        return result;
+    }
+
+    public ArchiveStore<T> getArchive() {
+        return archive;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (archiver != null) {
+            archiver.shutdown();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package storage.archive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import models.entities.Session;
+import storage.contracts.SessionRepository;
+
+public class ArchivingSessionRepository extends ArchivingRepository<Session, SessionRepository>
+      implements SessionRepository {
+
+    public ArchivingSessionRepository(SessionRepository hot, ArchiveStore<Session> archive,
+          ArchiveOptions options) {
+        super(hot, archive, options);
+    }
+
+    @Override
+    protected boolean isArchivable(Session session, LocalDateTime cutoff) {
+        return !session.isActive() && session.getEndTime() != null
+              && session.getEndTime().isBefore(cutoff);
+    }
+
+    @Override
+    public Optional<Session> findActiveByClientId(UUID clientId) {
+        return hot.findActiveByClientId(clientId);
+    }
+
+    @Override
+    public Optional<Session> findActiveByComputerId(UUID computerId) {
+        return hot.findActiveByComputerId(computerId);
+    }
+
+    @Override
+    public List<Session> findActive() {
+        return hot.findActive();
+    }
+
+    @Override
+    public List<Session> findByClientId(UUID clientId) {
+        return merge(hot.findByClientId(clientId), archive.findAllByKey(clientId));
+    }
+
+    @Override
+    public List<Session> findByComputerId(UUID computerId) {
+        return merge(hot.findByComputerId(computerId),
+              archive.filter(session -> Objects.equals(computerId, session.getComputerId())));
+    }
+
+    @Override
+    public List<Session> findByStartTimeBetween(LocalDateTime start, LocalDateTime end) {
+        return merge(hot.findByStartTimeBetween(start, end), archive.findBetween(start, end));
+    }
+}
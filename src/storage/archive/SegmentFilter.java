@@ -0,0 +1,51 @@
+package storage.archive;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public record SegmentFilter(long[] bits, int hashes) {
+
+    private static final int BITS_PER_KEY = 10;
+    private static final int HASHES = 7;
+
+    public static SegmentFilter of(Collection<UUID> keys) {
+        int size = Math.max(64, keys.size() * BITS_PER_KEY);
+        SegmentFilter filter = new SegmentFilter(new long[(size + 63) / 64], HASHES);
+        for (UUID key : keys) {
+            filter.add(key);
+        }
+        return filter;
+    }
+
+    private void add(UUID key) {
+        long first = mix(key.getMostSignificantBits() ^ key.getLeastSignificantBits());
+        long second = mix(key.getLeastSignificantBits() + first) | 1;
+        long size = bits.length * 64L;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(first + i * second, size);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    public boolean mightContain(UUID key) {
+        if (key == null) {
+            return false;
+        }
+        long first = mix(key.getMostSignificantBits() ^ key.getLeastSignificantBits());
+        long second = mix(key.getLeastSignificantBits() + first) | 1;
+        long size = bits.length * 64L;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(first + i * second, size);
+            if ((bits[(int) (bit >>> 6)] & 1L << bit) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ value >>> 33) * 0xff51afd7ed558ccdL;
+        value = (value ^ value >>> 33) * 0xc4ceb9fe1a85ec53L;
+        return value ^ value >>> 33;
+    }
+}
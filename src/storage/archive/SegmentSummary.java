@@ -0,0 +1,20 @@
+package storage.archive;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record SegmentSummary(String fileName, LocalDateTime minTime, LocalDateTime maxTime,
+                             int count, SegmentFilter ids, SegmentFilter keys) {
+
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return !maxTime.isBefore(start) && !minTime.isAfter(end);
+    }
+
+    public boolean mightContainId(UUID id) {
+        return ids == null || ids.mightContain(id);
+    }
+
+    public boolean mightContainKey(UUID key) {
+        return keys == null || keys.mightContain(key);
+    }
+}
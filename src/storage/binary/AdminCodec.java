@@ -0,0 +1,33 @@
+package storage.binary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import models.entities.Admin;
+
+public class AdminCodec implements BinaryCodec<Admin> {
+
+    @Override
+    public byte getTypeTag() {
+        return 1;
+    }
+
+    @Override
+    public Class<Admin> getEntityType() {
+        return Admin.class;
+    }
+
+    @Override
+    public void write(DataOutput out, Admin entity) throws IOException {
+        BinaryFields.writeUuid(out, entity.getId());
+        BinaryFields.writeString(out, entity.getLogin());
+        BinaryFields.writeString(out, entity.getPassword());
+        BinaryFields.writeString(out, entity.getEmail());
+    }
+
+    @Override
+    public Admin read(DataInput in) throws IOException {
+        return new Admin(BinaryFields.readUuid(in), BinaryFields.readString(in),
+              BinaryFields.readString(in), BinaryFields.readString(in));
+    }
+}
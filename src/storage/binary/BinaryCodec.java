@@ -0,0 +1,17 @@
+package storage.binary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import models.util.Entity;
+
+public interface BinaryCodec<T extends Entity> {
+
+    byte getTypeTag();
+
+    Class<T> getEntityType();
+
+    void write(DataOutput out, T entity) throws IOException;
+
+    T read(DataInput in) throws IOException;
+}
@@ -0,0 +1,109 @@
+package storage.binary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+public final class BinaryFields {
+
+    private static final long NULL_TIME = Long.MIN_VALUE;
+    private static final byte NULL_SCALE = Byte.MIN_VALUE;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private BinaryFields() {
+    }
+
+    public static void writeUuid(DataOutput out, UUID value) throws IOException {
+        out.writeLong(value != null ? value.getMostSignificantBits() : 0L);
+        out.writeLong(value != null ? value.getLeastSignificantBits() : 0L);
+    }
+
+    public static UUID readUuid(DataInput in) throws IOException {
+        long most = in.readLong();
+        long least = in.readLong();
+        return most == 0L && least == 0L ? null : new UUID(most, least);
+    }
+
+    public static void writeDateTime(DataOutput out, LocalDateTime value) throws IOException {
+        if (value == null) {
+            out.writeLong(NULL_TIME);
+            return;
+        }
+        long seconds = value.toEpochSecond(ZoneOffset.UTC);
+        out.writeLong(Math.addExact(Math.multiplyExact(seconds, NANOS_PER_SECOND),
+              value.getNano()));
+    }
+
+    public static LocalDateTime readDateTime(DataInput in) throws IOException {
+        long nanos = in.readLong();
+        if (nanos == NULL_TIME) {
+            return null;
+        }
+        Instant instant = Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND),
+              Math.floorMod(nanos, NANOS_PER_SECOND));
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    public static void writeTime(DataOutput out, LocalTime value) throws IOException {
+        out.writeLong(value != null ? value.toNanoOfDay() : NULL_TIME);
+    }
+
+    public static LocalTime readTime(DataInput in) throws IOException {
+        long nanos = in.readLong();
+        return nanos == NULL_TIME ? null : LocalTime.ofNanoOfDay(nanos);
+    }
+
+    public static void writeMoney(DataOutput out, BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL_SCALE);
+            return;
+        }
+        BigDecimal normalized = value.scale() < 0 ? value.setScale(0) : value;
+        if (normalized.scale() >= Byte.MAX_VALUE || normalized.unscaledValue().bitLength() > 63) {
+            throw new IllegalArgumentException("Сума не вміщується у бінарний формат: " + value);
+        }
+        out.writeByte(normalized.scale());
+        out.writeLong(normalized.unscaledValue().longValue());
+    }
+
+    public static BigDecimal readMoney(DataInput in) throws IOException {
+        byte scale = in.readByte();
+        if (scale == NULL_SCALE) {
+            return null;
+        }
+        return new BigDecimal(BigInteger.valueOf(in.readLong()), scale);
+    }
+
+    public static void writeEnum(DataOutput out, Enum<?> value) throws IOException {
+        out.writeByte(value != null ? value.ordinal() : -1);
+    }
+
+    public static <E extends Enum<E>> E readEnum(DataInput in, E[] values) throws IOException {
+        byte ordinal = in.readByte();
+        if (ordinal < 0) {
+            return null;
+        }
+        if (ordinal >= values.length) {
+            throw new IllegalArgumentException("Невідоме значення переліку: " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    public static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    public static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
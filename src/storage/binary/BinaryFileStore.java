@@ -0,0 +1,76 @@
+package storage.binary;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import models.util.Entity;
+import storage.contracts.EntityStore;
+import storage.repository.GroupCommitWriter;
+
+public class BinaryFileStore<T extends Entity> implements EntityStore<T> {
+
+    private final Path filePath;
+    private final BinaryCodec<T> codec;
+    private final GroupCommitWriter writer;
+
+    public BinaryFileStore(String filePath, Class<T> entityType) {
+        this(filePath, entityType, GroupCommitWriter.shared());
+    }
+
+    public BinaryFileStore(String filePath, Class<T> entityType, GroupCommitWriter writer) {
+        this.filePath = Path.of(filePath);
+        this.codec = BinaryFormat.codecFor(entityType);
+        this.writer = writer;
+        ensureFileExists();
+    }
+
+    private void ensureFileExists() {
+        if (Files.exists(filePath)) {
+            return;
+        }
+        try {
+            Files.createDirectories(filePath.toAbsolutePath().getParent());
+            Files.write(filePath, BinaryFormat.encode(codec, List.of()));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Не вдалося створити файл: " + filePath, e);
+        }
+    }
+
+    @Override
+    public List<T> loadAll() {
+        try (DataInputStream in = new DataInputStream(
+              new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return BinaryFormat.decode(codec, in);
+        } catch (EOFException e) {
+            throw new IllegalArgumentException("Файл пошкоджено: " + filePath, e);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка читання з файлу: " + filePath, e);
+        }
+    }
+
+    @Override
+    public void writeAll(Collection<T> entities) {
+        GroupCommitWriter.await(submitAll(entities), filePath);
+    }
+
+    @Override
+    public CompletableFuture<Void> submitAll(Collection<T> entities) {
+        return writer.submitReplace(filePath, BinaryFormat.encode(codec, entities));
+    }
+
+    @Override
+    public int sizeOf(T entity) {
+        return BinaryFormat.sizeOf(codec, entity);
+    }
+
+    @Override
+    public String getLocation() {
+        return filePath.toString();
+    }
+}
@@ -0,0 +1,108 @@
+package storage.binary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import models.entities.Admin;
+import models.entities.Client;
+import models.entities.Computer;
+import models.entities.Payment;
+import models.entities.Session;
+import models.entities.Tariff;
+import models.util.Entity;
+
+public final class BinaryFormat {
+
+    public static final int MAGIC = 0x43435342;
+    public static final short VERSION = 2;
+
+    private static final short UNVERSIONED = 1;
+
+    private static final Map<Class<?>, BinaryCodec<?>> CODECS = Map.of(
+          Admin.class, new AdminCodec(),
+          Client.class, new ClientCodec(),
+          Computer.class, new ComputerCodec(),
+          Tariff.class, new TariffCodec(),
+          Session.class, new SessionCodec(),
+          Payment.class, new PaymentCodec());
+
+    private BinaryFormat() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Entity> BinaryCodec<T> codecFor(Class<T> entityType) {
+        BinaryCodec<T> codec = (BinaryCodec<T>) CODECS.get(entityType);
+        if (codec == null) {
+            throw new IllegalArgumentException(
+                  "Бінарний формат не підтримує тип: " + entityType.getSimpleName());
+        }
+        return codec;
+    }
+
+    public static <T extends Entity> byte[] encode(BinaryCodec<T> codec, Collection<T> entities) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeByte(codec.getTypeTag());
+            out.writeInt(entities.size());
+            for (T entity : entities) {
+                codec.write(out, entity);
+                out.writeLong(entity.getVersion());
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка кодування записів", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static <T extends Entity> int sizeOf(BinaryCodec<T> codec, T entity) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            codec.write(out, entity);
+            out.writeLong(entity.getVersion());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка кодування записів", e);
+        }
+        return bytes.size();
+    }
+
+    public static <T extends Entity> List<T> decode(BinaryCodec<T> codec, DataInput in)
+          throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalArgumentException("Файл не є бінарним сховищем");
+        }
+        short version = in.readShort();
+        int count = readHeader(codec, version, in);
+        List<T> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            T entity = codec.read(in);
+            if (version != UNVERSIONED) {
+                entity.setVersion(in.readLong());
+            }
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private static int readHeader(BinaryCodec<?> codec, short version, DataInput in)
+          throws IOException {
+        if (version != VERSION && version != UNVERSIONED) {
+            throw new IllegalArgumentException("Непідтримувана версія бінарного формату: " + version);
+        }
+        byte typeTag = in.readByte();
+        if (typeTag != codec.getTypeTag()) {
+            throw new IllegalArgumentException("Файл містить записи іншого типу: " + typeTag);
+        }
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IllegalArgumentException("Некоректна кількість записів: " + count);
+        }
+        return count;
+    }
+}
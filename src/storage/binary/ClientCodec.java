@@ -0,0 +1,37 @@
+package storage.binary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import models.entities.Client;
+
+public class ClientCodec implements BinaryCodec<Client> {
+
+    @Override
+    public byte getTypeTag() {
+        return 2;
+    }
+
+    @Override
+    public Class<Client> getEntityType() {
+        return Client.class;
+    }
+
+    @Override
+    public void write(DataOutput out, Client entity) throws IOException {
+        BinaryFields.writeUuid(out, entity.getId());
+        BinaryFields.writeString(out, entity.getNickname());
+        BinaryFields.writeString(out, entity.getEmail());
+        BinaryFields.writeMoney(out, entity.getBalance());
+        out.writeInt(entity.getVisitCount());
+        BinaryFields.writeMoney(out, entity.getDiscountPercent());
+        BinaryFields.writeDateTime(out, entity.getRegistrationDate());
+    }
+
+    @Override
+    public Client read(DataInput in) throws IOException {
+        return new Client(BinaryFields.readUuid(in), BinaryFields.readString(in),
+              BinaryFields.readString(in), BinaryFields.readMoney(in), in.readInt(),
+              BinaryFields.readMoney(in), BinaryFields.readDateTime(in));
+    }
+}
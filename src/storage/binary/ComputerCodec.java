@@ -0,0 +1,36 @@
+package storage.binary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import models.entities.Computer;
+import models.enums.ComputerStatus;
+import models.enums.ComputerType;
+
+public class ComputerCodec implements BinaryCodec<Computer> {
+
+    @Override
+    public byte getTypeTag() {
+        return 3;
+    }
+
+    @Override
+    public Class<Computer> getEntityType() {
+        return Computer.class;
+    }
+
+    @Override
+    public void write(DataOutput out, Computer entity) throws IOException {
+        BinaryFields.writeUuid(out, entity.getId());
+        out.writeInt(entity.getNumber());
+        BinaryFields.writeEnum(out, entity.getComputerType());
+        BinaryFields.writeEnum(out, entity.getComputerStatus());
+    }
+
+    @Override
+    public Computer read(DataInput in) throws IOException {
+        return new Computer(BinaryFields.readUuid(in), in.readInt(),
+              BinaryFields.readEnum(in, ComputerType.values()),
+              BinaryFields.readEnum(in, ComputerStatus.values()));
+    }
+}
@@ -0,0 +1,36 @@
+package storage.binary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import models.entities.Payment;
+import models.enums.PaymentType;
+
+public class PaymentCodec implements BinaryCodec<Payment> {
+
+    @Override
+    public byte getTypeTag() {
+        return 6;
+    }
+
+    @Override
+    public Class<Payment> getEntityType() {
+        return Payment.class;
+    }
+
+    @Override
+    public void write(DataOutput out, Payment entity) throws IOException {
+        BinaryFields.writeUuid(out, entity.getId());
+        BinaryFields.writeUuid(out, entity.getSessionId());
+        BinaryFields.writeMoney(out, entity.getAmount());
+        BinaryFields.writeDateTime(out, entity.getPaymentTime());
+        BinaryFields.writeEnum(out, entity.getPaymentType());
+    }
+
+    @Override
+    public Payment read(DataInput in) throws IOException {
+        return new Payment(BinaryFields.readUuid(in), BinaryFields.readUuid(in),
+              BinaryFields.readMoney(in), BinaryFields.readDateTime(in),
+              BinaryFields.readEnum(in, PaymentType.values()));
+    }
+}
@@ -0,0 +1,38 @@
+package storage.binary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import models.entities.Session;
+
+public class SessionCodec implements BinaryCodec<Session> {
+
+    @Override
+    public byte getTypeTag() {
+        return 5;
+    }
+
+    @Override
+    public Class<Session> getEntityType() {
+        return Session.class;
+    }
+
+    @Override
+    public void write(DataOutput out, Session entity) throws IOException {
+        BinaryFields.writeUuid(out, entity.getId());
+        BinaryFields.writeUuid(out, entity.getClientId());
+        BinaryFields.writeUuid(out, entity.getComputerId());
+        BinaryFields.writeUuid(out, entity.getTariffId());
+        BinaryFields.writeDateTime(out, entity.getStartTime());
+        BinaryFields.writeDateTime(out, entity.getEndTime());
+        BinaryFields.writeMoney(out, entity.getTotalCost());
+        out.writeBoolean(entity.isActive());
+    }
+
+    @Override
+    public Session read(DataInput in) throws IOException {
+        return new Session(BinaryFields.readUuid(in), BinaryFields.readUuid(in),
+              BinaryFields.readUuid(in), BinaryFields.readUuid(in), BinaryFields.readDateTime(in),
+              BinaryFields.readDateTime(in), BinaryFields.readMoney(in), in.readBoolean());
+    }
+}
@@ -0,0 +1,36 @@
+package storage.binary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import models.entities.Tariff;
+
+public class TariffCodec implements BinaryCodec<Tariff> {
+
+    @Override
+    public byte getTypeTag() {
+        return 4;
+    }
+
+    @Override
+    public Class<Tariff> getEntityType() {
+        return Tariff.class;
+    }
+
+    @Override
+    public void write(DataOutput out, Tariff entity) throws IOException {
+        BinaryFields.writeUuid(out, entity.getId());
+        BinaryFields.writeString(out, entity.getName());
+        BinaryFields.writeMoney(out, entity.getPricePerHour());
+        BinaryFields.writeTime(out, entity.getStartHour());
+        BinaryFields.writeTime(out, entity.getEndHour());
+        out.writeBoolean(entity.isNightTariff());
+    }
+
+    @Override
+    public Tariff read(DataInput in) throws IOException {
+        return new Tariff(BinaryFields.readUuid(in), BinaryFields.readString(in),
+              BinaryFields.readMoney(in), BinaryFields.readTime(in), BinaryFields.readTime(in),
+              in.readBoolean());
+    }
+}
@@ -0,0 +1,28 @@
+package storage.cache;
+
+import java.time.Duration;
+
+public record CacheOptions(FlushMode flushMode, Duration flushInterval, long maxQueuedBytes) {
+
+    public CacheOptions {
+        if (flushMode != FlushMode.WRITE_THROUGH
+              && (flushInterval == null || flushInterval.isZero() || flushInterval.isNegative())) {
+            throw new IllegalArgumentException("Інтервал скидання повинен бути додатним");
+        }
+        if (flushMode == FlushMode.WRITE_BEHIND && maxQueuedBytes <= 0) {
+            throw new IllegalArgumentException("Розмір черги запису повинен бути додатним");
+        }
+    }
+
+    public static CacheOptions writeThrough() {
+        return new CacheOptions(FlushMode.WRITE_THROUGH, Duration.ZERO, 0);
+    }
+
+    public static CacheOptions periodic(Duration flushInterval) {
+        return new CacheOptions(FlushMode.PERIODIC, flushInterval, 0);
+    }
+
+    public static CacheOptions writeBehind(Duration maxLag, long maxQueuedBytes) {
+        return new CacheOptions(FlushMode.WRITE_BEHIND, maxLag, maxQueuedBytes);
+    }
+}
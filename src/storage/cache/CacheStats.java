@@ -0,0 +1,71 @@
+package storage.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordWrite() {
+        writes.increment();
+    }
+
+    void recordFlush() {
+        flushes.increment();
+    }
+
+    void recordLoad() {
+        loads.increment();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getWrites() {
+        return writes.sum();
+    }
+
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public double getHitRatio() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+              "Hits: %d, Misses: %d, Hit ratio: %.2f, Writes: %d, Flushes: %d, Loads: %d",
+              getHits(),
+              getMisses(),
+              getHitRatio(),
+              getWrites(),
+              getFlushes(),
+              getLoads()
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package storage.cache;
+
+import java.util.Optional;
+import java.util.UUID;
+import models.entities.Admin;
+import storage.contracts.AdminRepository;
+import storage.contracts.EntityStore;
+import storage.index.HashIndex;
+
+public final class CachedAdminRepository extends CachedRepository<Admin> implements
+      AdminRepository {
+
+    private final HashIndex<Admin> loginIndex;
+    private final HashIndex<Admin> emailIndex;
+
+    public CachedAdminRepository(EntityStore<Admin> store, CacheOptions options) {
+        super(store, options);
+        this.loginIndex = addIndex(new HashIndex<>("login", Admin::getLogin));
+        this.emailIndex = addIndex(new HashIndex<>("email", Admin::getEmail, true));
+    }
+
+    @Override
+    protected String notFoundMessage(UUID id) {
+        return "Адміна з ID " + id + " не знайдено";
+    }
+
+    @Override
+    protected Admin copy(Admin admin) {
+        Admin copy = new Admin(admin.getId(), admin.getLogin(), admin.getPassword(),
+              admin.getEmail());
+        copy.setVersion(admin.getVersion());
+        return copy;
+    }
+
+    @Override
+    public Optional<Admin> findByLogin(String login) {
+        return findFirst(loginIndex, login);
+    }
+
+    @Override
+    public Optional<Admin> findByEmail(String email) {
+        return findFirst(emailIndex, email);
+    }
+}
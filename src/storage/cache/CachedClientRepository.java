@@ -0,0 +1,72 @@
+package storage.cache;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.UUID;
+import models.entities.Client;
+import models.enums.CohortPeriod;
+import storage.contracts.ClientRepository;
+import storage.contracts.EntityStore;
+import storage.index.HashIndex;
+import storage.index.TimeIndex;
+import storage.index.TrigramIndex;
+
+public final class CachedClientRepository extends CachedRepository<Client> implements
+      ClientRepository {
+
+    private final HashIndex<Client> emailIndex;
+    private final TrigramIndex<Client> nicknameIndex;
+    private final TimeIndex<Client> registrationIndex;
+
+    public CachedClientRepository(EntityStore<Client> store, CacheOptions options) {
+        super(store, options);
+        this.emailIndex = addIndex(new HashIndex<>("email", Client::getEmail, true));
+        this.nicknameIndex = addIndex(new TrigramIndex<>("nickname", Client::getNickname));
+        this.registrationIndex = addIndex(
+              new TimeIndex<>("registrationDate", Client::getRegistrationDate));
+    }
+
+    @Override
+    protected String notFoundMessage(UUID id) {
+        return "Користувача з ID " + id + " не знайдено";
+    }
+
+    @Override
+    protected Client copy(Client client) {
+        Client copy = new Client(client.getId(), client.getNickname(), client.getEmail(),
+              client.getBalance(), client.getVisitCount(), client.getDiscountPercent(),
+              client.getRegistrationDate());
+        copy.setVersion(client.getVersion());
+        return copy;
+    }
+
+    @Override
+    public Optional<Client> findByEmail(String email) {
+        return findFirst(emailIndex, email);
+    }
+
+    @Override
+    public List<Client> findByNameContaining(String name) {
+        return findAllById(() -> nicknameIndex.search(name));
+    }
+
+    @Override
+    public List<Client> findByRegistrationDate(LocalDateTime registrationDate) {
+        return findAllById(() -> registrationIndex.findBetween(registrationDate,
+              registrationDate));
+    }
+
+    @Override
+    public List<Client> findByRegistrationDateBetween(LocalDateTime start, LocalDateTime end) {
+        return findAllById(() -> registrationIndex.findBetween(start, end));
+    }
+
+    @Override
+    public NavigableMap<LocalDate, Integer> countByRegistrationCohort(CohortPeriod period,
+          LocalDate from, LocalDate to) {
+        return registrationIndex.countBy(period, from, to);
+    }
+}
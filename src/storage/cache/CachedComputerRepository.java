@@ -0,0 +1,56 @@
+package storage.cache;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import models.entities.Computer;
+import models.enums.ComputerStatus;
+import models.enums.ComputerType;
+import storage.contracts.ComputerRepository;
+import storage.contracts.EntityStore;
+import storage.index.ComputerHallIndex;
+
+public final class CachedComputerRepository extends CachedRepository<Computer> implements
+      ComputerRepository {
+
+    private final ComputerHallIndex hallIndex;
+
+    public CachedComputerRepository(EntityStore<Computer> store, CacheOptions options) {
+        super(store, options);
+        this.hallIndex = addIndex(new ComputerHallIndex());
+    }
+
+    @Override
+    protected String notFoundMessage(UUID id) {
+        return "Комп'ютер з ID " + id + " не знайдено";
+    }
+
+    @Override
+    protected Computer copy(Computer computer) {
+        Computer copy = new Computer(computer.getId(), computer.getNumber(),
+              computer.getComputerType(), computer.getComputerStatus());
+        copy.setVersion(computer.getVersion());
+        return copy;
+    }
+
+    @Override
+    public List<Computer> findByComputerType(ComputerType computerType) {
+        return findAllById(() -> hallIndex.find(null, computerType));
+    }
+
+    @Override
+    public List<Computer> findByComputerStatus(ComputerStatus computerStatus) {
+        return findAllById(() -> hallIndex.find(computerStatus, null));
+    }
+
+    @Override
+    public Optional<Computer> findByNumber(int number) {
+        return findAllById(() -> hallIndex.findByNumber(number)).stream().findFirst();
+    }
+
+    @Override
+    public List<Computer> findByStatusAndType(ComputerStatus computerStatus,
+          ComputerType computerType) {
+        return findAllById(() -> hallIndex.find(computerStatus, computerType));
+    }
+}
@@ -0,0 +1,62 @@
+package storage.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import models.entities.Payment;
+import models.enums.PaymentType;
+import storage.contracts.EntityStore;
+import storage.contracts.PaymentRepository;
+import storage.index.SessionPaymentIndex;
+import storage.index.TimeIndex;
+
+public final class CachedPaymentRepository extends CachedRepository<Payment> implements
+      PaymentRepository {
+
+    private final SessionPaymentIndex sessionIndex;
+    private final TimeIndex<Payment> timeIndex;
+
+    public CachedPaymentRepository(EntityStore<Payment> store, CacheOptions options) {
+        super(store, options);
+        this.sessionIndex = addIndex(new SessionPaymentIndex());
+        this.timeIndex = addIndex(new TimeIndex<>("paymentTime", Payment::getPaymentTime));
+    }
+
+    @Override
+    protected String notFoundMessage(UUID id) {
+        return "Платіж з ID " + id + " не знайдено";
+    }
+
+    @Override
+    protected Payment copy(Payment payment) {
+        Payment copy = new Payment(payment.getId(), payment.getSessionId(), payment.getAmount(),
+              payment.getPaymentTime(), payment.getPaymentType());
+        copy.setVersion(payment.getVersion());
+        return copy;
+    }
+
+    @Override
+    public Optional<Payment> findBySessionId(UUID sessionId) {
+        return findAllById(() -> sessionIndex.findPaymentIds(sessionId)).stream().findFirst();
+    }
+
+    @Override
+    public BigDecimal getTotalRevenue(LocalDateTime date) {
+        LocalDateTime start = date.toLocalDate().atStartOfDay();
+        return findByPaymentTimeBetween(start, start.plusDays(1).minusNanos(1)).stream()
+              .map(Payment::getAmount)
+              .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Override
+    public List<Payment> findByType(PaymentType type) {
+        return filter(payment -> payment.getPaymentType() == type);
+    }
+
+    @Override
+    public List<Payment> findByPaymentTimeBetween(LocalDateTime start, LocalDateTime end) {
+        return findAllById(() -> timeIndex.findBetween(start, end));
+    }
+}
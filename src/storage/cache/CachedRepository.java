@@ -0,0 +1,565 @@
+package storage.cache;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import models.util.Entity;
+import storage.contracts.EntityStore;
+import storage.contracts.Reloadable;
+import storage.contracts.Repository;
+import storage.contracts.StaleEntityException;
+import storage.index.EntityIndex;
+import storage.index.HashIndex;
+import storage.query.QueryPlan;
+import storage.query.QueryPlanner;
+import storage.query.QueryResult;
+import storage.query.Specification;
+
+public abstract class CachedRepository<T extends Entity> implements Repository<T>, Reloadable,
+      AutoCloseable {
+
+    private static final int DELETED_ENTRY_BYTES = 64;
+
+    private final EntityStore<T> store;
+    private final CacheOptions options;
+    private final CacheStats stats = new CacheStats();
+    private final Map<UUID, T> entities = new LinkedHashMap<>();
+    private final Collection<T> snapshot = Collections.unmodifiableCollection(entities.values());
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<EntityIndex<T>> indexes = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService flusher;
+    private volatile WriteBehindQueue writeBehind;
+    private Thread shutdownHook;
+    private boolean dirty;
+
+    protected CachedRepository(EntityStore<T> store, CacheOptions options) {
+        this.store = store;
+        this.options = options;
+        load();
+    }
+
+    public synchronized void start() {
+        if (shutdownHook != null) {
+            return;
+        }
+        if (options.flushMode() == FlushMode.PERIODIC) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cache-flush-" + store.getLocation());
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = options.flushInterval().toMillis();
+            flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis,
+                  TimeUnit.MILLISECONDS);
+        }
+        if (options.flushMode() == FlushMode.WRITE_BEHIND) {
+            WriteBehindQueue queue = new WriteBehindQueue("write-behind-" + store.getLocation(),
+                  options.flushInterval(), options.maxQueuedBytes(), this::persistDirty);
+            queue.start();
+            writeBehind = queue;
+        }
+        shutdownHook = new Thread(this::flush, "cache-shutdown-" + store.getLocation());
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    protected abstract String notFoundMessage(UUID id);
+
+    protected T copy(T entity) {
+        return entity;
+    }
+
+    private void load() {
+        lock.writeLock().lock();
+        try {
+            loadLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void loadLocked() {
+        List<T> loaded = store.loadAll();
+        entities.clear();
+        for (T entity : loaded) {
+            entities.put(entity.getId(), entity);
+        }
+        for (EntityIndex<T> index : indexes) {
+            index.rebuild(snapshot);
+        }
+        dirty = false;
+        stats.recordLoad();
+    }
+
+    protected final <I extends EntityIndex<T>> I addIndex(I index) {
+        lock.writeLock().lock();
+        try {
+            index.rebuild(snapshot);
+            indexes.add(index);
+            return index;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<EntityIndex<T>> getIndexes() {
+        return List.copyOf(indexes);
+    }
+
+    @Override
+    public boolean reload() {
+        lock.writeLock().lock();
+        try {
+            if (dirty || writeBehind != null && writeBehind.hasPending()) {
+                return false;
+            }
+            loadLocked();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Path> getWatchedFiles() {
+        return store.getFiles();
+    }
+
+    @Override
+    public T save(T entity) {
+        T stored = copy(entity);
+        write(entity.getId(), stored, false, store -> store.insert(stored, snapshot));
+        return entity;
+    }
+
+    @Override
+    public T update(T entity) {
+        T stored = copy(entity);
+        write(entity.getId(), stored, true, store -> store.update(stored, snapshot));
+        entity.setVersion(stored.getVersion());
+        return entity;
+    }
+
+    @Override
+    public void delete(UUID id) {
+        write(id, null, false, store -> store.delete(id, snapshot));
+    }
+
+    @Override
+    public void applyChanges(Collection<T> created, Collection<T> updated,
+          Collection<UUID> deleted) {
+        try {
+            submitChanges(created, updated, deleted).join();
+        } catch (CompletionException e) {
+            throw new IllegalArgumentException("Помилка запису в сховище: " + store.getLocation(),
+                  e.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> submitChanges(Collection<T> created, Collection<T> updated,
+          Collection<UUID> deleted) {
+        if (created.isEmpty() && updated.isEmpty() && deleted.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Map<UUID, T> applied = new LinkedHashMap<>();
+        Map<UUID, T> previous = new LinkedHashMap<>();
+        List<T> written = new ArrayList<>(created.size() + updated.size());
+        List<UUID> removed = new ArrayList<>(deleted.size());
+        CompletableFuture<Void> pending = null;
+        long queuedBytes = 0;
+
+        lock.writeLock().lock();
+        try {
+            checkAccepting();
+            for (T entity : updated) {
+                T current = entities.get(entity.getId());
+                if (current == null) {
+                    throw new IllegalArgumentException(notFoundMessage(entity.getId()));
+                }
+                StaleEntityException.check(current, entity);
+            }
+            for (T entity : created) {
+                written.add(apply(entity.getId(), copy(entity), applied, previous));
+            }
+            for (T entity : updated) {
+                long version = entity.getVersion() + 1;
+                T stored = copy(entity);
+                stored.setVersion(version);
+                entity.setVersion(version);
+                written.add(apply(entity.getId(), stored, applied, previous));
+            }
+            for (UUID id : deleted) {
+                if (entities.containsKey(id)) {
+                    apply(id, null, applied, previous);
+                    removed.add(id);
+                }
+            }
+            stats.recordWrite();
+            if (options.flushMode() == FlushMode.PERIODIC) {
+                dirty = true;
+                return CompletableFuture.completedFuture(null);
+            }
+            if (writeBehind != null) {
+                for (T entity : written) {
+                    queuedBytes += store.sizeOf(entity);
+                }
+                queuedBytes += (long) removed.size() * DELETED_ENTRY_BYTES;
+            } else {
+                try {
+                    pending = store.applyAll(written, removed, snapshot);
+                } catch (RuntimeException e) {
+                    previous.forEach(this::restore);
+                    rewind(updated);
+                    throw e;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (writeBehind != null) {
+            try {
+                writeBehind.offer(applied.keySet(), queuedBytes);
+            } catch (IllegalStateException e) {
+                applied.forEach((id, stored) -> revert(id, stored, previous.get(id)));
+                rewind(updated);
+                throw e;
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return pending.whenComplete((ignored, failure) -> {
+            if (failure == null) {
+                stats.recordFlush();
+            } else {
+                applied.forEach((id, stored) -> revert(id, stored, previous.get(id)));
+                rewind(updated);
+            }
+        });
+    }
+
+    private void checkAccepting() {
+        if (writeBehind != null) {
+            writeBehind.checkAccepting();
+        }
+    }
+
+    private void rewind(Collection<T> updated) {
+        for (T entity : updated) {
+            entity.setVersion(entity.getVersion() - 1);
+        }
+    }
+
+    private T apply(UUID id, T stored, Map<UUID, T> applied, Map<UUID, T> previous) {
+        T replaced = stored != null ? entities.put(id, stored) : entities.remove(id);
+        reindex(replaced, stored);
+        if (!previous.containsKey(id)) {
+            previous.put(id, replaced);
+        }
+        applied.put(id, stored);
+        return stored;
+    }
+
+    private void write(UUID id, T stored, boolean mustExist,
+          Function<EntityStore<T>, CompletableFuture<Void>> writeThrough) {
+        CompletableFuture<Void> pending = null;
+        long queuedBytes = 0;
+        T previous;
+
+        lock.writeLock().lock();
+        try {
+            checkAccepting();
+            if (mustExist) {
+                T current = entities.get(id);
+                if (current == null) {
+                    throw new IllegalArgumentException(notFoundMessage(id));
+                }
+                StaleEntityException.check(current, stored);
+                stored.setVersion(current.getVersion() + 1);
+            }
+            previous = stored != null ? entities.put(id, stored) : entities.remove(id);
+            reindex(previous, stored);
+            stats.recordWrite();
+            if (options.flushMode() == FlushMode.PERIODIC) {
+                dirty = true;
+                return;
+            }
+            if (writeBehind != null) {
+                queuedBytes = stored != null ? store.sizeOf(stored) : DELETED_ENTRY_BYTES;
+            } else {
+                try {
+                    pending = writeThrough.apply(store);
+                } catch (RuntimeException e) {
+                    restore(id, previous);
+                    throw e;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (writeBehind != null) {
+            try {
+                writeBehind.offer(List.of(id), queuedBytes);
+            } catch (IllegalStateException e) {
+                revert(id, stored, previous);
+                throw e;
+            }
+            return;
+        }
+
+        try {
+            pending.join();
+            stats.recordFlush();
+        } catch (CompletionException e) {
+            revert(id, stored, previous);
+            throw new IllegalArgumentException("Помилка запису в сховище: " + store.getLocation(),
+                  e.getCause());
+        }
+    }
+
+    @Override
+    public Optional<T> findById(UUID id) {
+        lock.readLock().lock();
+        try {
+            return record(Optional.ofNullable(entities.get(id)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<T> findAll() {
+        return filter(entity -> true);
+    }
+
+    protected List<T> filter(Predicate<T> predicate) {
+        lock.readLock().lock();
+        try {
+            List<T> result = new ArrayList<>();
+            for (T entity : entities.values()) {
+                if (predicate.test(entity)) {
+                    result.add(copy(entity));
+                }
+            }
+            stats.recordHit();
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    protected Optional<T> findFirst(Predicate<T> predicate) {
+        lock.readLock().lock();
+        try {
+            for (T entity : entities.values()) {
+                if (predicate.test(entity)) {
+                    return record(Optional.of(entity));
+                }
+            }
+            return record(Optional.empty());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    protected Optional<T> findFirst(HashIndex<T> index, String key) {
+        lock.readLock().lock();
+        try {
+            for (UUID id : index.find(key)) {
+                T entity = entities.get(id);
+                if (entity != null) {
+                    return record(Optional.of(entity));
+                }
+            }
+            return record(Optional.empty());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    protected List<T> findAllById(Supplier<? extends Collection<UUID>> lookup) {
+        lock.readLock().lock();
+        try {
+            List<T> result = new ArrayList<>();
+            for (UUID id : lookup.get()) {
+                T entity = entities.get(id);
+                if (entity != null) {
+                    result.add(copy(entity));
+                }
+            }
+            stats.recordHit();
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<T> findAll(Specification<T> specification) {
+        return query(specification).rows();
+    }
+
+    @Override
+    public QueryPlan explain(Specification<T> specification) {
+        return query(specification).plan();
+    }
+
+    private QueryResult<T> query(Specification<T> specification) {
+        lock.readLock().lock();
+        try {
+            QueryResult<T> result = QueryPlanner.execute(specification, indexes, entities::get,
+                  () -> snapshot);
+            List<T> rows = new ArrayList<>(result.rows().size());
+            for (T entity : result.rows()) {
+                rows.add(copy(entity));
+            }
+            stats.recordHit();
+            return new QueryResult<>(rows, result.plan());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Optional<T> record(Optional<T> found) {
+        if (found.isPresent()) {
+            stats.recordHit();
+            return Optional.of(copy(found.get()));
+        }
+        stats.recordMiss();
+        return found;
+    }
+
+    private void revert(UUID id, T stored, T previous) {
+        lock.writeLock().lock();
+        try {
+            if (entities.get(id) == stored) {
+                restore(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void restore(UUID id, T previous) {
+        T current = previous != null ? entities.put(id, previous) : entities.remove(id);
+        reindex(current, previous);
+    }
+
+    private void reindex(T removed, T added) {
+        for (EntityIndex<T> index : indexes) {
+            if (removed != null) {
+                index.remove(removed);
+            }
+            if (added != null) {
+                index.add(added);
+            }
+        }
+    }
+
+    public void flush() {
+        if (writeBehind != null) {
+            writeBehind.flush();
+        }
+        lock.writeLock().lock();
+        try {
+            flushLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void persistDirty(Set<UUID> ids) {
+        CompletableFuture<Void> pending;
+        lock.readLock().lock();
+        try {
+            List<T> written = new ArrayList<>(ids.size());
+            List<UUID> removed = new ArrayList<>();
+            for (UUID id : ids) {
+                T entity = entities.get(id);
+                if (entity != null) {
+                    written.add(entity);
+                } else {
+                    removed.add(id);
+                }
+            }
+            pending = store.applyAll(written, removed, snapshot);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            pending.join();
+            stats.recordFlush();
+        } catch (CompletionException e) {
+            throw new IllegalArgumentException("Помилка запису в сховище: " + store.getLocation(),
+                  e.getCause());
+        }
+    }
+
+    private void flushLocked() {
+        if (!dirty) {
+            return;
+        }
+        store.writeAll(snapshot);
+        dirty = false;
+        stats.recordFlush();
+    }
+
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    public CacheOptions getOptions() {
+        return options;
+    }
+
+    public Optional<WriteBehindQueue> getWriteBehind() {
+        return Optional.ofNullable(writeBehind);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        try {
+            if (writeBehind != null) {
+                writeBehind.close();
+            }
+            flush();
+        } finally {
+            removeShutdownHook();
+        }
+    }
+
+    private void removeShutdownHook() {
+        if (shutdownHook == null) {
+            return;
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            shutdownHook = null;
+        } catch (IllegalStateException e) {
+            return;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package storage.cache;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import models.entities.Session;
+import storage.contracts.EntityStore;
+import storage.contracts.SessionRepository;
+import storage.index.ActiveSessionIndex;
+import storage.index.SessionHistoryIndex;
+import storage.index.TimeIndex;
+
+public final class CachedSessionRepository extends CachedRepository<Session> implements
+      SessionRepository {
+
+    private final ActiveSessionIndex activeIndex;
+    private final TimeIndex<Session> startIndex;
+    private final SessionHistoryIndex clientHistory;
+    private final SessionHistoryIndex computerHistory;
+
+    public CachedSessionRepository(EntityStore<Session> store, CacheOptions options) {
+        super(store, options);
+        this.activeIndex = addIndex(new ActiveSessionIndex());
+        this.startIndex = addIndex(new TimeIndex<>("startTime", Session::getStartTime));
+        this.clientHistory = addIndex(new SessionHistoryIndex("clientId", Session::getClientId));
+        this.computerHistory = addIndex(
+              new SessionHistoryIndex("computerId", Session::getComputerId));
+    }
+
+    @Override
+    protected String notFoundMessage(UUID id) {
+        return "Сесію з ID " + id + " не знайдено";
+    }
+
+    @Override
+    protected Session copy(Session session) {
+        Session copy = new Session(session.getId(), session.getClientId(),
+              session.getComputerId(), session.getTariffId(), session.getStartTime(),
+              session.getEndTime(), session.getTotalCost(), session.isActive());
+        copy.setVersion(session.getVersion());
+        return copy;
+    }
+
+    @Override
+    public List<Session> findByClientId(UUID clientId) {
+        return findAllById(() -> clientHistory.find(clientId));
+    }
+
+    @Override
+    public List<Session> findByClientId(UUID clientId, int offset, int limit) {
+        return findAllById(() -> clientHistory.find(clientId, offset, limit));
+    }
+
+    @Override
+    public List<Session> findByComputerId(UUID computerId) {
+        return findAllById(() -> computerHistory.find(computerId));
+    }
+
+    @Override
+    public Optional<Session> findActiveByClientId(UUID clientId) {
+        return findAllById(() -> activeIndex.findByClient(clientId)).stream().findFirst();
+    }
+
+    @Override
+    public Optional<Session> findActiveByComputerId(UUID computerId) {
+        return findAllById(() -> activeIndex.findByComputer(computerId)).stream().findFirst();
+    }
+
+    @Override
+    public List<Session> findActive() {
+        return findAllById(activeIndex::findAll);
+    }
+
+    @Override
+    public List<Session> findByStartTimeBetween(LocalDateTime start, LocalDateTime end) {
+        return findAllById(() -> startIndex.findBetween(start, end));
+    }
+}
@@ -0,0 +1,49 @@
+package storage.cache;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import models.entities.Tariff;
+import storage.contracts.EntityStore;
+import storage.contracts.TariffRepository;
+import storage.index.TariffSchedule;
+
+public final class CachedTariffRepository extends CachedRepository<Tariff> implements
+      TariffRepository {
+
+    private final TariffSchedule schedule;
+
+    public CachedTariffRepository(EntityStore<Tariff> store, CacheOptions options) {
+        super(store, options);
+        this.schedule = addIndex(new TariffSchedule());
+    }
+
+    @Override
+    protected String notFoundMessage(UUID id) {
+        return "Тариф з ID " + id + " не знайдено";
+    }
+
+    @Override
+    protected Tariff copy(Tariff tariff) {
+        Tariff copy = new Tariff(tariff.getId(), tariff.getName(), tariff.getPricePerHour(),
+              tariff.getStartHour(), tariff.getEndHour(), tariff.isNightTariff());
+        copy.setVersion(tariff.getVersion());
+        return copy;
+    }
+
+    @Override
+    public Optional<Tariff> findCurrentTariff(LocalDateTime now) {
+        return schedule.find(now.toLocalTime()).flatMap(this::findById);
+    }
+
+    @Override
+    public List<Tariff> findNightTariffs() {
+        return filter(Tariff::isNightTariff);
+    }
+
+    @Override
+    public Optional<Tariff> findByName(String name) {
+        return findFirst(tariff -> tariff.getName().equals(name));
+    }
+}
@@ -0,0 +1,7 @@
+package storage.cache;
+
+public enum FlushMode {
+    WRITE_THROUGH,
+    PERIODIC,
+    WRITE_BEHIND
+}
@@ -0,0 +1,328 @@
+package storage.cache;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+public final class WriteBehindQueue implements AutoCloseable {
+
+    public static final int MAX_ATTEMPTS = 5;
+
+    private final long maxLagNanos;
+    private final long maxQueuedBytes;
+    private final Consumer<Set<UUID>> persister;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Deque<PendingChange> pending = new ArrayDeque<>();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder backpressureWaits = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private final Thread flusher;
+
+    private long queuedBytes;
+    private long lastFlushLagNanos;
+    private long maxFlushLagNanos;
+    private boolean closed;
+    private RuntimeException failure;
+
+    public WriteBehindQueue(String name, Duration maxLag, long maxQueuedBytes,
+          Consumer<Set<UUID>> persister) {
+        this.maxLagNanos = maxLag.toNanos();
+        this.maxQueuedBytes = maxQueuedBytes;
+        this.persister = persister;
+        this.flusher = new Thread(this::run, name);
+        this.flusher.setDaemon(true);
+    }
+
+    public void start() {
+        flusher.start();
+    }
+
+    public void offer(Collection<UUID> ids, long bytes) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            checkAccepting();
+            if (queuedBytes > 0 && queuedBytes + bytes > maxQueuedBytes) {
+                backpressureWaits.increment();
+                changed.signalAll();
+                while (!closed && failure == null && queuedBytes > 0
+                      && queuedBytes + bytes > maxQueuedBytes) {
+                    changed.awaitUninterruptibly();
+                }
+                checkAccepting();
+            }
+            pending.addLast(new PendingChange(Set.copyOf(ids), bytes, System.nanoTime()));
+            queuedBytes += bytes;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void checkAccepting() {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Запис у сховище вже завершено");
+            }
+            if (failure != null) {
+                throw new IllegalStateException("Запис у сховище зупинено після помилки: "
+                      + failure.getMessage(), failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushBatch();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushBatch() {
+        List<PendingChange> batch;
+        lock.lock();
+        try {
+            batch = new ArrayList<>(pending);
+            pending.clear();
+        } finally {
+            lock.unlock();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> ids = new LinkedHashSet<>();
+        long bytes = 0;
+        for (PendingChange change : batch) {
+            ids.addAll(change.ids());
+            bytes += change.bytes();
+        }
+
+        try {
+            persister.accept(ids);
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                for (int i = batch.size() - 1; i >= 0; i--) {
+                    pending.addFirst(batch.get(i));
+                }
+                failedFlushes.increment();
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+
+        long lag = System.nanoTime() - batch.getFirst().enqueuedNanos();
+        lock.lock();
+        try {
+            queuedBytes -= bytes;
+            lastFlushLagNanos = lag;
+            maxFlushLagNanos = Math.max(maxFlushLagNanos, lag);
+            flushes.increment();
+            failure = null;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        int attempts = 0;
+        while (awaitDue()) {
+            try {
+                flush();
+                attempts = 0;
+            } catch (RuntimeException e) {
+                attempts++;
+                if (attempts >= MAX_ATTEMPTS) {
+                    System.out.println("✗ Зміни не записано після " + attempts + " спроб: "
+                          + e.getMessage());
+                    attempts = 0;
+                    if (!suspend(e)) {
+                        return;
+                    }
+                } else if (!pause(maxLagNanos / 2 << (attempts - 1))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean awaitDue() {
+        lock.lock();
+        try {
+            while (pending.isEmpty()) {
+                if (closed) {
+                    return false;
+                }
+                changed.awaitUninterruptibly();
+            }
+            long due = pending.getFirst().enqueuedNanos() + maxLagNanos / 2;
+            long remaining;
+            while (!closed && queuedBytes * 2 < maxQueuedBytes
+                  && (remaining = due - System.nanoTime()) > 0) {
+                changed.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean pause(long nanos) {
+        lock.lock();
+        try {
+            long remaining = nanos;
+            while (!closed && remaining > 0) {
+                remaining = changed.awaitNanos(remaining);
+            }
+            return !closed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean suspend(RuntimeException cause) {
+        lock.lock();
+        try {
+            failure = cause;
+            changed.signalAll();
+            while (!closed && failure != null) {
+                changed.awaitUninterruptibly();
+            }
+            return !closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean hasPending() {
+        lock.lock();
+        try {
+            return queuedBytes > 0 || !pending.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getQueuedBytes() {
+        lock.lock();
+        try {
+            return queuedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration getFlushLag() {
+        lock.lock();
+        try {
+            return pending.isEmpty() ? Duration.ZERO
+                  : Duration.ofNanos(System.nanoTime() - pending.getFirst().enqueuedNanos());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration getLastFlushLag() {
+        lock.lock();
+        try {
+            return Duration.ofNanos(lastFlushLagNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration getMaxFlushLag() {
+        lock.lock();
+        try {
+            return Duration.ofNanos(maxFlushLagNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    public long getBackpressureWaits() {
+        return backpressureWaits.sum();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.sum();
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (flusher.isAlive()) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Не записано змін при закритті: " + getQueueDepth(),
+                  e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+              "Черга запису: змін %d, байт %d, затримка %d мс, остання %d мс, максимальна %d мс, "
+                    + "скидань %d, очікувань %d, помилок %d",
+              getQueueDepth(), getQueuedBytes(), getFlushLag().toMillis(),
+              getLastFlushLag().toMillis(), getMaxFlushLag().toMillis(), getFlushes(),
+              getBackpressureWaits(), getFailedFlushes());
+    }
+
+    private record PendingChange(Set<UUID> ids, long bytes, long enqueuedNanos) {
+    }
+}
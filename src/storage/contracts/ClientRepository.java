@@ -1,9 +1,14 @@
 package storage.contracts;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 import models.entities.Client;
+import models.enums.CohortPeriod;
 
 public interface ClientRepository extends Repository<Client> {
 
@@ -12,4 +17,28 @@ public interface ClientRepository extends Repository<Client> {
     List<Client> findByNameContaining(String name);
 
     List<Client> findByRegistrationDate(LocalDateTime registrationDate);
+
+    default List<Client> findByRegistrationDateBetween(LocalDateTime start, LocalDateTime end) {
+        try (Stream<Client> clients = stream()) {
+            return clients
+                  .filter(c -> !c.getRegistrationDate().isBefore(start) &&
+                        !c.getRegistrationDate().isAfter(end))
+                  .toList();
+        }
+    }
+
+    default NavigableMap<LocalDate, Integer> countByRegistrationCohort(CohortPeriod period,
+          LocalDate from, LocalDate to) {
+        NavigableMap<LocalDate, Integer> cohorts = new TreeMap<>();
+        for (LocalDate start = period.startOf(from); !start.isAfter(to);
+              start = period.next(start)) {
+            cohorts.put(start, 0);
+        }
+        try (Stream<Client> clients = stream()) {
+            clients.map(c -> c.getRegistrationDate().toLocalDate())
+                  .filter(date -> !date.isBefore(from) && !date.isAfter(to))
+                  .forEach(date -> cohorts.merge(period.startOf(date), 1, Integer::sum));
+        }
+        return cohorts;
+    }
 }
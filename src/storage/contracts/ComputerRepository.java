@@ -2,6 +2,7 @@ package storage.contracts;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import models.entities.Computer;
 import models.enums.ComputerStatus;
 import models.enums.ComputerType;
@@ -13,4 +14,14 @@ public interface ComputerRepository extends Repository<Computer> {
     List<Computer> findByComputerStatus(ComputerStatus computerStatus);
 
     Optional<Computer> findByNumber(int number);
+
+    default List<Computer> findByStatusAndType(ComputerStatus computerStatus,
+          ComputerType computerType) {
+        try (Stream<Computer> computers = stream()) {
+            return computers
+                  .filter(c -> c.getComputerStatus() == computerStatus)
+                  .filter(c -> c.getComputerType() == computerType)
+                  .toList();
+        }
+    }
 }
@@ -0,0 +1,49 @@
+package storage.contracts;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+public interface EntityStore<T> {
+
+    List<T> loadAll();
+
+    default Stream<T> stream() {
+        return loadAll().stream();
+    }
+
+    void writeAll(Collection<T> entities);
+
+    default CompletableFuture<Void> submitAll(Collection<T> entities) {
+        writeAll(entities);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    default CompletableFuture<Void> insert(T entity, Collection<T> snapshot) {
+        return submitAll(snapshot);
+    }
+
+    default CompletableFuture<Void> update(T entity, Collection<T> snapshot) {
+        return submitAll(snapshot);
+    }
+
+    default CompletableFuture<Void> delete(UUID id, Collection<T> snapshot) {
+        return submitAll(snapshot);
+    }
+
+    default CompletableFuture<Void> applyAll(Collection<T> written, Collection<UUID> deleted,
+          Collection<T> snapshot) {
+        return submitAll(snapshot);
+    }
+
+    int sizeOf(T entity);
+
+    String getLocation();
+
+    default List<Path> getFiles() {
+        return List.of(Path.of(getLocation()));
+    }
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import models.entities.Payment;
 import models.enums.PaymentType;
 
@@ -15,4 +16,13 @@ public interface PaymentRepository extends Repository<Payment> {
     BigDecimal getTotalRevenue(LocalDateTime date);
 
     List<Payment> findByType(PaymentType type);
+
+    default List<Payment> findByPaymentTimeBetween(LocalDateTime start, LocalDateTime end) {
+        try (Stream<Payment> payments = stream()) {
+            return payments
+                  .filter(p -> !p.getPaymentTime().isBefore(start) &&
+                        !p.getPaymentTime().isAfter(end))
+                  .toList();
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package storage.contracts;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public interface Reloadable {
+
+    List<Path> getWatchedFiles();
+
+    boolean reload();
+}
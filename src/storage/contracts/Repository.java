@@ -1,8 +1,14 @@
 package storage.contracts;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import storage.query.QueryPlan;
+import storage.query.QueryPlanner;
+import storage.query.Specification;
 
 public interface Repository<T> {
 
@@ -12,7 +18,52 @@ public interface Repository<T> {
 
     void delete(UUID id);
 
+    default void saveAll(Collection<T> entities) {
+        applyChanges(entities, List.of(), List.of());
+    }
+
+    default void updateAll(Collection<T> entities) {
+        applyChanges(List.of(), entities, List.of());
+    }
+
+    default void deleteAll(Collection<UUID> ids) {
+        applyChanges(List.of(), List.of(), ids);
+    }
+
+    default void applyChanges(Collection<T> created, Collection<T> updated,
+          Collection<UUID> deleted) {
+        for (T entity : created) {
+            save(entity);
+        }
+        for (T entity : updated) {
+            update(entity);
+        }
+        for (UUID id : deleted) {
+            delete(id);
+        }
+    }
+
+    default CompletableFuture<Void> submitChanges(Collection<T> created, Collection<T> updated,
+          Collection<UUID> deleted) {
+        applyChanges(created, updated, deleted);
+        return CompletableFuture.completedFuture(null);
+    }
+
     Optional<T> findById(UUID id);
 
     List<T> findAll();
+
+    default Stream<T> stream() {
+        return findAll().stream();
+    }
+
+    default List<T> findAll(Specification<T> specification) {
+        try (Stream<T> entities = stream()) {
+            return entities.filter(specification::test).toList();
+        }
+    }
+
+    default QueryPlan explain(Specification<T> specification) {
+        return QueryPlanner.execute(specification, List.of(), id -> null, this::findAll).plan();
+    }
 }
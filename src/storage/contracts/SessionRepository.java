@@ -1,10 +1,63 @@
 package storage.contracts;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import models.entities.Session;
 
 public interface SessionRepository extends Repository<Session> {
 
     List<Session> findByClientId(UUID clientId);
+
+    default List<Session> findByClientId(UUID clientId, int offset, int limit) {
+        return findByClientId(clientId).stream()
+              .sorted(Comparator.comparing(Session::getStartTime).reversed())
+              .skip(Math.max(0, offset))
+              .limit(Math.max(0, limit))
+              .toList();
+    }
+
+    default List<Session> findByComputerId(UUID computerId) {
+        try (Stream<Session> sessions = stream()) {
+            return sessions
+                  .filter(s -> computerId.equals(s.getComputerId()))
+                  .toList();
+        }
+    }
+
+    default Optional<Session> findActiveByClientId(UUID clientId) {
+        try (Stream<Session> sessions = stream()) {
+            return sessions
+                  .filter(s -> s.getEndTime() == null && s.getClientId().equals(clientId))
+                  .findFirst();
+        }
+    }
+
+    default Optional<Session> findActiveByComputerId(UUID computerId) {
+        try (Stream<Session> sessions = stream()) {
+            return sessions
+                  .filter(s -> s.getEndTime() == null && s.getComputerId().equals(computerId))
+                  .findFirst();
+        }
+    }
+
+    default List<Session> findActive() {
+        try (Stream<Session> sessions = stream()) {
+            return sessions
+                  .filter(s -> s.getEndTime() == null)
+                  .toList();
+        }
+    }
+
+    default List<Session> findByStartTimeBetween(LocalDateTime start, LocalDateTime end) {
+        try (Stream<Session> sessions = stream()) {
+            return sessions
+                  .filter(s -> !s.getStartTime().isBefore(start) &&
+                        !s.getStartTime().isAfter(end))
+                  .toList();
+        }
+    }
 }
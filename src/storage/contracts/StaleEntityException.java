@@ -0,0 +1,40 @@
+package storage.contracts;
+
+import java.util.UUID;
+import models.util.Entity;
+
+public class StaleEntityException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final UUID id;
+    private final long expectedVersion;
+    private final long actualVersion;
+
+    public StaleEntityException(UUID id, long expectedVersion, long actualVersion) {
+        super(String.format("Запис %s вже змінено іншим користувачем (версія %d, очікувалась %d)",
+              id, actualVersion, expectedVersion));
+        this.id = id;
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    public static void check(Entity current, Entity candidate) {
+        if (current != candidate && current.getVersion() != candidate.getVersion()) {
+            throw new StaleEntityException(candidate.getId(), candidate.getVersion(),
+                  current.getVersion());
+        }
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public long getActualVersion() {
+        return actualVersion;
+    }
+}
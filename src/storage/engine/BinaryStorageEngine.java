@@ -0,0 +1,23 @@
+package storage.engine;
+
+import models.util.Entity;
+import storage.binary.BinaryFileStore;
+import storage.contracts.EntityStore;
+import storage.repository.GroupCommitWriter;
+
+public class BinaryStorageEngine extends CachedStorageEngine {
+
+    public BinaryStorageEngine(StorageConfig config, GroupCommitWriter writer) {
+        super(config, writer);
+    }
+
+    @Override
+    public StorageBackend getBackend() {
+        return StorageBackend.BINARY;
+    }
+
+    @Override
+    protected <T extends Entity> EntityStore<T> openStore(EntityKind kind, Class<T> entityType) {
+        return new BinaryFileStore<>(config.filePath(kind, ".bin"), entityType, writer);
+    }
+}
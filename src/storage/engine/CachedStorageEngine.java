@@ -0,0 +1,86 @@
+package storage.engine;
+
+import models.entities.Admin;
+import models.entities.Client;
+import models.entities.Computer;
+import models.entities.Payment;
+import models.entities.Session;
+import models.entities.Tariff;
+import models.util.Entity;
+import storage.cache.CachedAdminRepository;
+import storage.cache.CachedClientRepository;
+import storage.cache.CachedComputerRepository;
+import storage.cache.CachedPaymentRepository;
+import storage.cache.CachedRepository;
+import storage.cache.CachedSessionRepository;
+import storage.cache.CachedTariffRepository;
+import storage.contracts.AdminRepository;
+import storage.contracts.ClientRepository;
+import storage.contracts.ComputerRepository;
+import storage.contracts.EntityStore;
+import storage.contracts.PaymentRepository;
+import storage.contracts.SessionRepository;
+import storage.contracts.TariffRepository;
+import storage.repository.GroupCommitWriter;
+import storage.repository.JsonFileStore;
+
+public class CachedStorageEngine implements StorageEngine {
+
+    protected final StorageConfig config;
+    protected final GroupCommitWriter writer;
+
+    public CachedStorageEngine(StorageConfig config, GroupCommitWriter writer) {
+        this.config = config;
+        this.writer = writer;
+    }
+
+    @Override
+    public StorageBackend getBackend() {
+        return StorageBackend.CACHED;
+    }
+
+    protected <T extends Entity> EntityStore<T> openStore(EntityKind kind, Class<T> entityType) {
+        return new JsonFileStore<>(config.filePath(kind, ".json"), entityType, writer);
+    }
+
+    protected <R extends CachedRepository<?>> R start(R repository) {
+        repository.start();
+        return repository;
+    }
+
+    @Override
+    public AdminRepository openAdmins() {
+        return start(new CachedAdminRepository(openStore(EntityKind.ADMINS, Admin.class),
+              config.getCacheOptions()));
+    }
+
+    @Override
+    public ClientRepository openClients() {
+        return start(new CachedClientRepository(openStore(EntityKind.CLIENTS, Client.class),
+              config.getCacheOptions()));
+    }
+
+    @Override
+    public ComputerRepository openComputers() {
+        return start(new CachedComputerRepository(openStore(EntityKind.COMPUTERS, Computer.class),
+              config.getCacheOptions()));
+    }
+
+    @Override
+    public TariffRepository openTariffs() {
+        return start(new CachedTariffRepository(openStore(EntityKind.TARIFFS, Tariff.class),
+              config.getCacheOptions()));
+    }
+
+    @Override
+    public SessionRepository openSessions() {
+        return start(new CachedSessionRepository(openStore(EntityKind.SESSIONS, Session.class),
+              config.getCacheOptions()));
+    }
+
+    @Override
+    public PaymentRepository openPayments() {
+        return start(new CachedPaymentRepository(openStore(EntityKind.PAYMENTS, Payment.class),
+              config.getCacheOptions()));
+    }
+}
@@ -0,0 +1,34 @@
+package storage.engine;
+
+import models.entities.Admin;
+import models.entities.Client;
+import models.entities.Computer;
+import models.entities.Payment;
+import models.entities.Session;
+import models.entities.Tariff;
+import models.util.Entity;
+
+public enum EntityKind {
+    ADMINS("admins", Admin.class),
+    CLIENTS("clients", Client.class),
+    COMPUTERS("computers", Computer.class),
+    TARIFFS("tariffs", Tariff.class),
+    SESSIONS("sessions", Session.class),
+    PAYMENTS("payments", Payment.class);
+
+    private final String key;
+    private final Class<? extends Entity> entityType;
+
+    EntityKind(String key, Class<? extends Entity> entityType) {
+        this.key = key;
+        this.entityType = entityType;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Class<? extends Entity> getEntityType() {
+        return entityType;
+    }
+}
@@ -0,0 +1,26 @@
+package storage.engine;
+
+import models.util.Entity;
+import storage.contracts.EntityStore;
+import storage.journal.JournalStore;
+import storage.repository.GroupCommitWriter;
+
+public class JournalStorageEngine extends CachedStorageEngine {
+
+    public JournalStorageEngine(StorageConfig config, GroupCommitWriter writer) {
+        super(config, writer);
+    }
+
+    @Override
+    public StorageBackend getBackend() {
+        return StorageBackend.JOURNAL;
+    }
+
+    @Override
+    protected <T extends Entity> EntityStore<T> openStore(EntityKind kind, Class<T> entityType) {
+        JournalStore<T> store = new JournalStore<>(config.filePath(kind, ".json"), entityType,
+              config.getJournalOptions(), writer);
+        store.start();
+        return store;
+    }
+}
@@ -0,0 +1,61 @@
+package storage.engine;
+
+import storage.contracts.AdminRepository;
+import storage.contracts.ClientRepository;
+import storage.contracts.ComputerRepository;
+import storage.contracts.PaymentRepository;
+import storage.contracts.SessionRepository;
+import storage.contracts.TariffRepository;
+import storage.repository.GroupCommitWriter;
+import storage.repository.JsonAdminRepository;
+import storage.repository.JsonClientRepository;
+import storage.repository.JsonComputerRepository;
+import storage.repository.JsonPaymentRepository;
+import storage.repository.JsonSessionRepository;
+import storage.repository.JsonTariffRepository;
+
+public class JsonStorageEngine implements StorageEngine {
+
+    private final StorageConfig config;
+    private final GroupCommitWriter writer;
+
+    public JsonStorageEngine(StorageConfig config, GroupCommitWriter writer) {
+        this.config = config;
+        this.writer = writer;
+    }
+
+    @Override
+    public StorageBackend getBackend() {
+        return StorageBackend.JSON;
+    }
+
+    @Override
+    public AdminRepository openAdmins() {
+        return new JsonAdminRepository(config.filePath(EntityKind.ADMINS, ".json"), writer);
+    }
+
+    @Override
+    public ClientRepository openClients() {
+        return new JsonClientRepository(config.filePath(EntityKind.CLIENTS, ".json"), writer);
+    }
+
+    @Override
+    public ComputerRepository openComputers() {
+        return new JsonComputerRepository(config.filePath(EntityKind.COMPUTERS, ".json"), writer);
+    }
+
+    @Override
+    public TariffRepository openTariffs() {
+        return new JsonTariffRepository(config.filePath(EntityKind.TARIFFS, ".json"), writer);
+    }
+
+    @Override
+    public SessionRepository openSessions() {
+        return new JsonSessionRepository(config.filePath(EntityKind.SESSIONS, ".json"), writer);
+    }
+
+    @Override
+    public PaymentRepository openPayments() {
+        return new JsonPaymentRepository(config.filePath(EntityKind.PAYMENTS, ".json"), writer);
+    }
+}
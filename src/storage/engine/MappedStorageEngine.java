@@ -0,0 +1,27 @@
+package storage.engine;
+
+import storage.contracts.SessionRepository;
+import storage.mapped.MappedSessionRepository;
+import storage.repository.GroupCommitWriter;
+
+public class MappedStorageEngine implements StorageEngine {
+
+    private final StorageConfig config;
+    private final GroupCommitWriter writer;
+
+    public MappedStorageEngine(StorageConfig config, GroupCommitWriter writer) {
+        this.config = config;
+        this.writer = writer;
+    }
+
+    @Override
+    public StorageBackend getBackend() {
+        return StorageBackend.MAPPED;
+    }
+
+    @Override
+    public SessionRepository openSessions() {
+        return new MappedSessionRepository(config.filePath(EntityKind.SESSIONS, ".dat"),
+              writer);
+    }
+}
@@ -0,0 +1,72 @@
+package storage.engine;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import models.entities.Payment;
+import models.entities.Session;
+import models.util.Entity;
+import storage.contracts.PaymentRepository;
+import storage.contracts.SessionRepository;
+import storage.journal.JournalStore;
+import storage.partition.PartitionGranularity;
+import storage.partition.PartitionedPaymentRepository;
+import storage.partition.PartitionedRepository;
+import storage.partition.PartitionedSessionRepository;
+import storage.repository.GroupCommitWriter;
+import storage.repository.JsonFileStore;
+
+public class PartitionedStorageEngine implements StorageEngine {
+
+    private final StorageConfig config;
+    private final GroupCommitWriter writer;
+
+    public PartitionedStorageEngine(StorageConfig config, GroupCommitWriter writer) {
+        this.config = config;
+        this.writer = writer;
+    }
+
+    @Override
+    public StorageBackend getBackend() {
+        return StorageBackend.PARTITIONED;
+    }
+
+    @Override
+    public SessionRepository openSessions() {
+        PartitionedSessionRepository sessions = new PartitionedSessionRepository(
+              config.filePath(EntityKind.SESSIONS, ""), granularity(), maxLoaded(), writer);
+        migrate(sessions, EntityKind.SESSIONS, Session.class);
+        return sessions;
+    }
+
+    @Override
+    public PaymentRepository openPayments() {
+        PartitionedPaymentRepository payments = new PartitionedPaymentRepository(
+              config.filePath(EntityKind.PAYMENTS, ""), granularity(), maxLoaded(), writer);
+        migrate(payments, EntityKind.PAYMENTS, Payment.class);
+        return payments;
+    }
+
+    private PartitionGranularity granularity() {
+        return PartitionGranularity.fromKey(config.get("partition.granularity", "month"));
+    }
+
+    private int maxLoaded() {
+        return config.getInt("partition.maxLoaded", 12);
+    }
+
+    private <T extends Entity> void migrate(PartitionedRepository<T> repository, EntityKind kind,
+          Class<T> entityType) {
+        String legacyPath = config.filePath(kind, ".json");
+        if (!repository.isEmpty() || !Files.exists(Path.of(legacyPath))) {
+            return;
+        }
+        if (Files.exists(Path.of(config.filePath(kind, ".journal")))) {
+            try (JournalStore<T> journal = new JournalStore<>(legacyPath, entityType,
+                  config.getJournalOptions(), writer)) {
+                repository.importAll(journal.loadAll());
+            }
+        } else {
+            repository.importAll(new JsonFileStore<>(legacyPath, entityType, writer).loadAll());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package storage.engine;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import models.entities.Admin;
+import models.entities.Client;
+import models.entities.Computer;
+import models.entities.Payment;
+import models.entities.Session;
+import models.entities.Tariff;
+import storage.archive.ArchiveStore;
+import storage.archive.ArchivingPaymentRepository;
+import storage.archive.ArchivingRepository;
+import storage.archive.ArchivingSessionRepository;
+import storage.contracts.AdminRepository;
+import storage.contracts.ClientRepository;
+import storage.contracts.ComputerRepository;
+import storage.contracts.PaymentRepository;
+import storage.contracts.Reloadable;
+import storage.contracts.SessionRepository;
+import storage.contracts.TariffRepository;
+import storage.repository.GroupCommitWriter;
+import storage.uow.TransactionLog;
+import storage.watch.DataFileWatcher;
+
+public class Repositories implements AutoCloseable {
+
+    private static final String TRANSACTION_LOG = "transactions.log";
+
+    private final AdminRepository admins;
+    private final ClientRepository clients;
+    private final ComputerRepository computers;
+    private final TariffRepository tariffs;
+    private final SessionRepository sessions;
+    private final PaymentRepository payments;
+    private final GroupCommitWriter writer;
+    private final boolean ownsWriter;
+    private final DataFileWatcher watcher;
+    private final TransactionLog transactions;
+    private final SessionRepository hotSessions;
+    private final PaymentRepository hotPayments;
+
+    private Repositories(StorageConfig config, GroupCommitWriter writer, boolean ownsWriter) {
+        this.writer = writer;
+        this.ownsWriter = ownsWriter;
+        Map<StorageBackend, StorageEngine> engines = new EnumMap<>(StorageBackend.class);
+        this.admins = engine(engines, config, EntityKind.ADMINS).openAdmins();
+        this.clients = engine(engines, config, EntityKind.CLIENTS).openClients();
+        this.computers = engine(engines, config, EntityKind.COMPUTERS).openComputers();
+        this.tariffs = engine(engines, config, EntityKind.TARIFFS).openTariffs();
+        SessionRepository hotSessions = engine(engines, config, EntityKind.SESSIONS).openSessions();
+        PaymentRepository hotPayments = engine(engines, config, EntityKind.PAYMENTS).openPayments();
+        if (config.isArchiveEnabled()) {
+            this.sessions = new ArchivingSessionRepository(hotSessions,
+                  new ArchiveStore<>(config.archivePath(EntityKind.SESSIONS), Session.class,
+                        Session::getStartTime, Session::getClientId, writer),
+                  config.getArchiveOptions());
+            this.payments = new ArchivingPaymentRepository(hotPayments,
+                  new ArchiveStore<>(config.archivePath(EntityKind.PAYMENTS), Payment.class,
+                        Payment::getPaymentTime, Payment::getSessionId, writer),
+                  config.getArchiveOptions());
+        } else {
+            this.sessions = hotSessions;
+            this.payments = hotPayments;
+        }
+
+        this.transactions = new TransactionLog(
+              Path.of(config.getDataDirectory(), TRANSACTION_LOG), writer);
+        transactions.register(EntityKind.ADMINS.getKey(), admins, Admin.class);
+        transactions.register(EntityKind.CLIENTS.getKey(), clients, Client.class);
+        transactions.register(EntityKind.COMPUTERS.getKey(), computers, Computer.class);
+        transactions.register(EntityKind.TARIFFS.getKey(), tariffs, Tariff.class);
+        transactions.register(EntityKind.SESSIONS.getKey(), sessions, Session.class);
+        transactions.register(EntityKind.PAYMENTS.getKey(), payments, Payment.class);
+        transactions.recover();
+        for (Object repository : List.of(sessions, payments)) {
+            if (repository instanceof ArchivingRepository<?, ?> archiving) {
+                archiving.start();
+            }
+        }
+
+        if (config.isWatchEnabled()) {
+            this.watcher = new DataFileWatcher(writer, config.getWatchDebounce());
+            for (Object repository : List.of(admins, clients, computers, tariffs, hotSessions,
+                  hotPayments)) {
+                if (repository instanceof Reloadable reloadable) {
+                    watcher.register(reloadable);
+                }
+            }
+        } else {
+            this.watcher = null;
+        }
+        this.hotSessions = hotSessions;
+        this.hotPayments = hotPayments;
+    }
+
+    public static Repositories open(StorageConfig config) {
+        if (config.getCommitWindow().equals(GroupCommitWriter.DEFAULT_WINDOW)) {
+            return new Repositories(config, GroupCommitWriter.shared(), false);
+        }
+        return new Repositories(config, new GroupCommitWriter(config.getCommitWindow()), true);
+    }
+
+    private StorageEngine engine(Map<StorageBackend, StorageEngine> engines, StorageConfig config,
+          EntityKind kind) {
+        return engines.computeIfAbsent(config.getBackend(kind),
+              key -> key.createEngine(config, writer));
+    }
+
+    public AdminRepository admins() {
+        return admins;
+    }
+
+    public ClientRepository clients() {
+        return clients;
+    }
+
+    public ComputerRepository computers() {
+        return computers;
+    }
+
+    public TariffRepository tariffs() {
+        return tariffs;
+    }
+
+    public SessionRepository sessions() {
+        return sessions;
+    }
+
+    public PaymentRepository payments() {
+        return payments;
+    }
+
+    public GroupCommitWriter getWriter() {
+        return writer;
+    }
+
+    public TransactionLog getTransactionLog() {
+        return transactions;
+    }
+
+    public DataFileWatcher getWatcher() {
+        return watcher;
+    }
+
+    @Override
+    public void close() {
+        List<Object> resources = new ArrayList<>();
+        resources.add(watcher);
+        for (Object repository : List.of(sessions, hotSessions, payments, hotPayments, admins,
+              clients, computers, tariffs)) {
+            if (!resources.contains(repository)) {
+                resources.add(repository);
+            }
+        }
+        RuntimeException failure = null;
+        for (Object resource : resources) {
+            try {
+                if (resource instanceof AutoCloseable closeable) {
+                    closeable.close();
+                }
+            } catch (Exception e) {
+                RuntimeException error = e instanceof RuntimeException runtime ? runtime
+                      : new IllegalArgumentException("Помилка закриття сховища", e);
+                if (failure == null) {
+                    failure = error;
+                } else {
+                    failure.addSuppressed(error);
+                }
+            }
+        }
+        if (ownsWriter) {
+            writer.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
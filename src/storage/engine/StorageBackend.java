@@ -0,0 +1,50 @@
+package storage.engine;
+
+import storage.repository.GroupCommitWriter;
+
+public enum StorageBackend {
+    JSON("json"),
+    CACHED("cached"),
+    JOURNAL("journal"),
+    BINARY("binary"),
+    MAPPED("mapped"),
+    PARTITIONED("partitioned");
+
+    private final String key;
+
+    StorageBackend(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static StorageBackend fromKey(String key) {
+        for (StorageBackend backend : values()) {
+            if (backend.key.equalsIgnoreCase(key.trim())) {
+                return backend;
+            }
+        }
+        throw new IllegalArgumentException("Невідомий бекенд сховища: " + key);
+    }
+
+    public boolean supports(EntityKind kind) {
+        return switch (this) {
+            case JSON, CACHED, BINARY -> true;
+            case JOURNAL, PARTITIONED -> kind == EntityKind.SESSIONS || kind == EntityKind.PAYMENTS;
+            case MAPPED -> kind == EntityKind.SESSIONS;
+        };
+    }
+
+    public StorageEngine createEngine(StorageConfig config, GroupCommitWriter writer) {
+        return switch (this) {
+            case JSON -> new JsonStorageEngine(config, writer);
+            case CACHED -> new CachedStorageEngine(config, writer);
+            case JOURNAL -> new JournalStorageEngine(config, writer);
+            case BINARY -> new BinaryStorageEngine(config, writer);
+            case MAPPED -> new MappedStorageEngine(config, writer);
+            case PARTITIONED -> new PartitionedStorageEngine(config, writer);
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package storage.engine;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+import storage.archive.ArchiveOptions;
+import storage.cache.CacheOptions;
+import storage.journal.JournalOptions;
+import storage.repository.GroupCommitWriter;
+import storage.watch.DataFileWatcher;
+
+public class StorageConfig {
+
+    public static final String DEFAULT_PATH = "data/storage.properties";
+
+    private final Properties properties;
+
+    private StorageConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static StorageConfig defaults() {
+        return new StorageConfig(new Properties());
+    }
+
+    public static StorageConfig load(String path) {
+        Properties properties = new Properties();
+        Path file = Path.of(path);
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Помилка читання конфігурації: " + path, e);
+            }
+        }
+        StorageConfig config = new StorageConfig(properties);
+        for (EntityKind kind : EntityKind.values()) {
+            config.getBackend(kind);
+        }
+        return config;
+    }
+
+    public StorageConfig with(String key, String value) {
+        Properties copy = new Properties();
+        copy.putAll(properties);
+        copy.setProperty(key, value);
+        return new StorageConfig(copy);
+    }
+
+    public String get(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue).trim();
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некоректне значення " + key + ": " + value, e);
+        }
+    }
+
+    public String getDataDirectory() {
+        return get("data.dir", "data");
+    }
+
+    public String filePath(EntityKind kind, String extension) {
+        return Path.of(getDataDirectory(), kind.getKey() + extension).toString();
+    }
+
+    public StorageBackend getBackend(EntityKind kind) {
+        String defaultBackend = get("backend.default", StorageBackend.CACHED.getKey());
+        StorageBackend backend =
+              StorageBackend.fromKey(get("backend." + kind.getKey(), defaultBackend));
+        if (!backend.supports(kind)) {
+            throw new IllegalArgumentException("Бекенд " + backend.getKey() + " не підтримує "
+                  + kind.getKey() + ": вкажіть інший backend." + kind.getKey());
+        }
+        return backend;
+    }
+
+    public CacheOptions getCacheOptions() {
+        String flushMode = get("cache.flush", "write-through");
+        if (flushMode.equalsIgnoreCase("periodic")) {
+            return CacheOptions.periodic(
+                  Duration.ofMillis(getInt("cache.flushIntervalMillis", 1000)));
+        }
+        if (flushMode.equalsIgnoreCase("write-behind")) {
+            return CacheOptions.writeBehind(
+                  Duration.ofMillis(getInt("cache.flushIntervalMillis", 1000)),
+                  getInt("cache.maxQueuedBytes", 8 * 1024 * 1024));
+        }
+        if (flushMode.equalsIgnoreCase("write-through")) {
+            return CacheOptions.writeThrough();
+        }
+        throw new IllegalArgumentException("Невідомий режим скидання кешу: " + flushMode);
+    }
+
+    public JournalOptions getJournalOptions() {
+        JournalOptions defaults = JournalOptions.defaults();
+        return new JournalOptions(
+              getInt("journal.compactThreshold", defaults.compactThreshold()),
+              Duration.ofSeconds(getInt("journal.compactIntervalSeconds",
+                    (int) defaults.compactInterval().toSeconds())));
+    }
+
+    public boolean isArchiveEnabled() {
+        return Boolean.parseBoolean(get("archive.enabled", "false"));
+    }
+
+    public String archivePath(EntityKind kind) {
+        return Path.of(getDataDirectory(), "archive", kind.getKey()).toString();
+    }
+
+    public ArchiveOptions getArchiveOptions() {
+        ArchiveOptions defaults = ArchiveOptions.defaults();
+        return new ArchiveOptions(
+              Duration.ofDays(getInt("archive.maxAgeDays", (int) defaults.maxAge().toDays())),
+              Duration.ofMinutes(getInt("archive.intervalMinutes",
+                    (int) defaults.interval().toMinutes())));
+    }
+
+    public boolean isWatchEnabled() {
+        return Boolean.parseBoolean(get("watch.enabled", "false"));
+    }
+
+    public Duration getWatchDebounce() {
+        return Duration.ofMillis(getInt("watch.debounceMillis",
+              (int) DataFileWatcher.DEFAULT_DEBOUNCE.toMillis()));
+    }
+
+    public Duration getCommitWindow() {
+        return Duration.ofMillis(getInt("commit.windowMillis",
+              (int) GroupCommitWriter.DEFAULT_WINDOW.toMillis()));
+    }
+}
@@ -0,0 +1,42 @@
+package storage.engine;
+
+import storage.contracts.AdminRepository;
+import storage.contracts.ClientRepository;
+import storage.contracts.ComputerRepository;
+import storage.contracts.PaymentRepository;
+import storage.contracts.SessionRepository;
+import storage.contracts.TariffRepository;
+
+public interface StorageEngine {
+
+    StorageBackend getBackend();
+
+    default AdminRepository openAdmins() {
+        throw unsupported(EntityKind.ADMINS);
+    }
+
+    default ClientRepository openClients() {
+        throw unsupported(EntityKind.CLIENTS);
+    }
+
+    default ComputerRepository openComputers() {
+        throw unsupported(EntityKind.COMPUTERS);
+    }
+
+    default TariffRepository openTariffs() {
+        throw unsupported(EntityKind.TARIFFS);
+    }
+
+    default SessionRepository openSessions() {
+        throw unsupported(EntityKind.SESSIONS);
+    }
+
+    default PaymentRepository openPayments() {
+        throw unsupported(EntityKind.PAYMENTS);
+    }
+
+    private IllegalArgumentException unsupported(EntityKind kind) {
+        return new IllegalArgumentException(
+              "Бекенд " + getBackend().getKey() + " не підтримує " + kind.getKey());
+    }
+}
@@ -0,0 +1,185 @@
+package storage.index;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import models.entities.Session;
+import storage.binary.BinaryFields;
+import storage.query.Criteria;
+import storage.query.Specification;
+import storage.repository.FileStamp;
+import storage.repository.GroupCommitWriter;
+
+public class ActiveSessionIndex implements PersistentIndex<Session> {
+
+    private static final int MAGIC = 0x43434153;
+    private static final short VERSION = 1;
+
+    private final Path file;
+    private final GroupCommitWriter writer;
+    private final Map<UUID, UUID> byClient = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> byComputer = new ConcurrentHashMap<>();
+    private final Map<UUID, ActiveRef> active = new ConcurrentHashMap<>();
+
+    private volatile boolean restored;
+
+    public ActiveSessionIndex() {
+        this(null, null);
+    }
+
+    public ActiveSessionIndex(Path file, GroupCommitWriter writer) {
+        this.file = file;
+        this.writer = writer;
+    }
+
+    public static boolean isActive(Session session) {
+        return session.getEndTime() == null;
+    }
+
+    @Override
+    public void rebuild(Collection<Session> sessions) {
+        byClient.clear();
+        byComputer.clear();
+        active.clear();
+        for (Session session : sessions) {
+            add(session);
+        }
+        restored = false;
+    }
+
+    @Override
+    public void add(Session session) {
+        if (!isActive(session)) {
+            return;
+        }
+        put(session.getId(), new ActiveRef(session.getClientId(), session.getComputerId(),
+              session.getStartTime()));
+    }
+
+    private void put(UUID sessionId, ActiveRef ref) {
+        active.put(sessionId, ref);
+        if (ref.clientId() != null) {
+            byClient.put(ref.clientId(), sessionId);
+        }
+        if (ref.computerId() != null) {
+            byComputer.put(ref.computerId(), sessionId);
+        }
+    }
+
+    @Override
+    public void remove(Session session) {
+        if (active.remove(session.getId()) == null) {
+            return;
+        }
+        if (session.getClientId() != null) {
+            byClient.remove(session.getClientId(), session.getId());
+        }
+        if (session.getComputerId() != null) {
+            byComputer.remove(session.getComputerId(), session.getId());
+        }
+    }
+
+    public List<UUID> findByClient(UUID clientId) {
+        UUID sessionId = clientId != null ? byClient.get(clientId) : null;
+        return sessionId != null ? List.of(sessionId) : List.of();
+    }
+
+    public List<UUID> findByComputer(UUID computerId) {
+        UUID sessionId = computerId != null ? byComputer.get(computerId) : null;
+        return sessionId != null ? List.of(sessionId) : List.of();
+    }
+
+    public List<UUID> findAll() {
+        return List.copyOf(active.keySet());
+    }
+
+    public Optional<LocalDateTime> findStartTime(UUID sessionId) {
+        return Optional.ofNullable(active.get(sessionId)).map(ActiveRef::startTime);
+    }
+
+    @Override
+    public Optional<Collection<UUID>> lookup(Specification<Session> criterion) {
+        if (criterion instanceof Criteria.IsNull<Session, ?> isNull
+              && isNull.attribute().name().equals("endTime")) {
+            return Optional.of(findAll());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean restore(List<FileStamp> sources) {
+        if (file == null || !Files.exists(file)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(
+              new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION
+                  || !FileStamp.matches(FileStamp.readAll(in), sources)) {
+                return false;
+            }
+            int count = in.readInt();
+            byClient.clear();
+            byComputer.clear();
+            active.clear();
+            for (int i = 0; i < count; i++) {
+                put(BinaryFields.readUuid(in), new ActiveRef(BinaryFields.readUuid(in),
+                      BinaryFields.readUuid(in), BinaryFields.readDateTime(in)));
+            }
+            restored = true;
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void persist(List<FileStamp> sources) {
+        if (file == null) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            FileStamp.writeAll(out, sources);
+            Map<UUID, ActiveRef> snapshot = Map.copyOf(active);
+            out.writeInt(snapshot.size());
+            for (Map.Entry<UUID, ActiveRef> entry : snapshot.entrySet()) {
+                BinaryFields.writeUuid(out, entry.getKey());
+                BinaryFields.writeUuid(out, entry.getValue().clientId());
+                BinaryFields.writeUuid(out, entry.getValue().computerId());
+                BinaryFields.writeDateTime(out, entry.getValue().startTime());
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка кодування індексу: " + file, e);
+        }
+        writer.replace(file, bytes.toByteArray());
+    }
+
+    public boolean isRestored() {
+        return restored;
+    }
+
+    public int size() {
+        return active.size();
+    }
+
+    @Override
+    public String toString() {
+        return "Індекс активних сесій: " + active.size();
+    }
+
+    private record ActiveRef(UUID clientId, UUID computerId, LocalDateTime startTime) {
+    }
+}
@@ -0,0 +1,212 @@
+package storage.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import models.entities.Computer;
+import models.enums.ComputerStatus;
+import models.enums.ComputerType;
+import storage.query.Criteria;
+import storage.query.Specification;
+
+public class ComputerHallIndex implements EntityIndex<Computer> {
+
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final IntIntMap byNumber = new IntIntMap();
+    private final Map<ComputerStatus, BitSet> byStatus = new EnumMap<>(ComputerStatus.class);
+    private final Map<ComputerType, BitSet> byType = new EnumMap<>(ComputerType.class);
+    private final BitSet used = new BitSet();
+
+    private UUID[] ids = new UUID[16];
+
+    public ComputerHallIndex() {
+        for (ComputerStatus status : ComputerStatus.values()) {
+            byStatus.put(status, new BitSet());
+        }
+        for (ComputerType type : ComputerType.values()) {
+            byType.put(type, new BitSet());
+        }
+    }
+
+    @Override
+    public void rebuild(Collection<Computer> computers) {
+        slots.clear();
+        byNumber.clear();
+        byStatus.values().forEach(BitSet::clear);
+        byType.values().forEach(BitSet::clear);
+        used.clear();
+        Arrays.fill(ids, null);
+        for (Computer computer : computers) {
+            add(computer);
+        }
+    }
+
+    @Override
+    public void add(Computer computer) {
+        int slot = used.nextClearBit(0);
+        if (slot == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+        used.set(slot);
+        ids[slot] = computer.getId();
+        slots.put(computer.getId(), slot);
+        byNumber.put(computer.getNumber(), slot);
+        if (computer.getComputerStatus() != null) {
+            byStatus.get(computer.getComputerStatus()).set(slot);
+        }
+        if (computer.getComputerType() != null) {
+            byType.get(computer.getComputerType()).set(slot);
+        }
+    }
+
+    @Override
+    public void remove(Computer computer) {
+        Integer slot = slots.remove(computer.getId());
+        if (slot == null) {
+            return;
+        }
+        byNumber.remove(computer.getNumber(), slot);
+        byStatus.values().forEach(bits -> bits.clear(slot));
+        byType.values().forEach(bits -> bits.clear(slot));
+        used.clear(slot);
+        ids[slot] = null;
+    }
+
+    public List<UUID> findByNumber(int number) {
+        int slot = byNumber.get(number);
+        return slot >= 0 ? List.of(ids[slot]) : List.of();
+    }
+
+    public List<UUID> find(ComputerStatus status, ComputerType type) {
+        BitSet statusBits = status != null ? byStatus.get(status) : used;
+        BitSet typeBits = type != null ? byType.get(type) : used;
+        List<UUID> result = new ArrayList<>();
+        for (int slot = statusBits.nextSetBit(0); slot >= 0;
+              slot = statusBits.nextSetBit(slot + 1)) {
+            if (typeBits.get(slot)) {
+                result.add(ids[slot]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Collection<UUID>> lookup(Specification<Computer> criterion) {
+        if (!(criterion instanceof Criteria.Equals<Computer, ?> equals)) {
+            return Optional.empty();
+        }
+        return switch (equals.value()) {
+            case Integer number when equals.attribute().name().equals("number") ->
+                  Optional.of(findByNumber(number));
+            case ComputerStatus status -> Optional.of(find(status, null));
+            case ComputerType type -> Optional.of(find(null, type));
+            case null, default -> Optional.empty();
+        };
+    }
+
+    public int count(ComputerStatus status, ComputerType type) {
+        BitSet statusBits = status != null ? byStatus.get(status) : used;
+        BitSet typeBits = type != null ? byType.get(type) : used;
+        int count = 0;
+        for (int slot = statusBits.nextSetBit(0); slot >= 0;
+              slot = statusBits.nextSetBit(slot + 1)) {
+            if (typeBits.get(slot)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Індекс залу: комп'ютерів %d, вільних %d", slots.size(),
+              byStatus.get(ComputerStatus.FREE).cardinality());
+    }
+
+    private static class IntIntMap {
+
+        private int[] keys = new int[16];
+        private int[] values = new int[16];
+        private int size;
+
+        private static int hash(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        private int indexOf(int key) {
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; values[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int get(int key) {
+            int index = indexOf(key);
+            return index >= 0 ? values[index] - 1 : -1;
+        }
+
+        private void put(int key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (values[i] != 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (values[i] == 0) {
+                size++;
+            }
+            keys[i] = key;
+            values[i] = value + 1;
+        }
+
+        private void remove(int key, int value) {
+            int gap = indexOf(key);
+            if (gap < 0 || values[gap] != value + 1) {
+                return;
+            }
+            int mask = keys.length - 1;
+            for (int j = (gap + 1) & mask; values[j] != 0; j = (j + 1) & mask) {
+                int home = hash(keys[j]) & mask;
+                boolean movable = j > gap ? home <= gap || home > j : home <= gap && home > j;
+                if (movable) {
+                    keys[gap] = keys[j];
+                    values[gap] = values[j];
+                    gap = j;
+                }
+            }
+            values[gap] = 0;
+            size--;
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new int[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != 0) {
+                    put(oldKeys[i], oldValues[i] - 1);
+                }
+            }
+        }
+
+        private void clear() {
+            Arrays.fill(values, 0);
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package storage.index;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import storage.query.Specification;
+
+public interface EntityIndex<T> {
+
+    void rebuild(Collection<T> entities);
+
+    void add(T entity);
+
+    void remove(T entity);
+
+    default Optional<Collection<UUID>> lookup(Specification<T> criterion) {
+        return Optional.empty();
+    }
+}
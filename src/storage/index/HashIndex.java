@@ -0,0 +1,109 @@
+package storage.index;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import models.util.Entity;
+import storage.query.Criteria;
+import storage.query.Specification;
+
+public class HashIndex<T extends Entity> implements EntityIndex<T> {
+
+    private final String name;
+    private final Function<T, String> keyOf;
+    private final boolean ignoreCase;
+    private final Map<String, Set<UUID>> entries = new ConcurrentHashMap<>();
+
+    private volatile long lastRebuildMillis;
+
+    public HashIndex(String name, Function<T, String> keyOf) {
+        this(name, keyOf, false);
+    }
+
+    public HashIndex(String name, Function<T, String> keyOf, boolean ignoreCase) {
+        this.name = name;
+        this.keyOf = keyOf;
+        this.ignoreCase = ignoreCase;
+    }
+
+    public static String normalize(String key) {
+        return key == null ? null : key.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void rebuild(Collection<T> entities) {
+        long started = System.nanoTime();
+        entries.clear();
+        List.copyOf(entities).parallelStream().forEach(this::add);
+        lastRebuildMillis = (System.nanoTime() - started) / 1_000_000;
+    }
+
+    @Override
+    public void add(T entity) {
+        String key = key(entity);
+        if (key != null) {
+            entries.computeIfAbsent(key, ignored -> ConcurrentHashMap.newKeySet())
+                  .add(entity.getId());
+        }
+    }
+
+    @Override
+    public void remove(T entity) {
+        String key = key(entity);
+        if (key != null) {
+            entries.computeIfPresent(key, (ignored, ids) -> {
+                ids.remove(entity.getId());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public Set<UUID> find(String key) {
+        if (key == null) {
+            return Set.of();
+        }
+        Set<UUID> ids = entries.get(key(key));
+        return ids != null ? Set.copyOf(ids) : Set.of();
+    }
+
+    @Override
+    public Optional<Collection<UUID>> lookup(Specification<T> criterion) {
+        if (criterion instanceof Criteria.Equals<T, ?> equals
+              && equals.attribute().name().equals(name) && equals.value() instanceof String key) {
+            return Optional.of(find(key));
+        }
+        return Optional.empty();
+    }
+
+    private String key(T entity) {
+        return key(keyOf.apply(entity));
+    }
+
+    private String key(String key) {
+        return ignoreCase ? normalize(key) : key;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getLastRebuildMillis() {
+        return lastRebuildMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Індекс %s: ключів %d, перебудова %d мс", name, entries.size(),
+              lastRebuildMillis);
+    }
+}
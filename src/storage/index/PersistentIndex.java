@@ -0,0 +1,11 @@
+package storage.index;
+
+import java.util.List;
+import storage.repository.FileStamp;
+
+public interface PersistentIndex<T> extends EntityIndex<T> {
+
+    boolean restore(List<FileStamp> sources);
+
+    void persist(List<FileStamp> sources);
+}
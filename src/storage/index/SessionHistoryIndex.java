@@ -0,0 +1,126 @@
+package storage.index;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import models.entities.Session;
+import storage.query.Criteria;
+import storage.query.Specification;
+
+public class SessionHistoryIndex implements EntityIndex<Session> {
+
+    private static final Comparator<Entry> NEWEST_FIRST = Comparator
+          .comparing(Entry::startTime, Comparator.reverseOrder())
+          .thenComparing(Entry::id);
+
+    private final String name;
+    private final Function<Session, UUID> ownerOf;
+    private final Map<UUID, List<Entry>> histories = new ConcurrentHashMap<>();
+
+    public SessionHistoryIndex(String name, Function<Session, UUID> ownerOf) {
+        this.name = name;
+        this.ownerOf = ownerOf;
+    }
+
+    @Override
+    public void rebuild(Collection<Session> sessions) {
+        histories.clear();
+        for (Session session : sessions) {
+            add(session);
+        }
+    }
+
+    @Override
+    public void add(Session session) {
+        UUID owner = ownerOf.apply(session);
+        if (owner == null || session.getStartTime() == null) {
+            return;
+        }
+        Entry entry = new Entry(session.getStartTime(), session.getId());
+        histories.compute(owner, (ignored, history) -> {
+            List<Entry> target = history != null ? history : new ArrayList<>();
+            synchronized (target) {
+                int position = Collections.binarySearch(target, entry, NEWEST_FIRST);
+                if (position < 0) {
+                    target.add(-position - 1, entry);
+                }
+            }
+            return target;
+        });
+    }
+
+    @Override
+    public void remove(Session session) {
+        UUID owner = ownerOf.apply(session);
+        if (owner == null || session.getStartTime() == null) {
+            return;
+        }
+        Entry entry = new Entry(session.getStartTime(), session.getId());
+        histories.computeIfPresent(owner, (ignored, history) -> {
+            synchronized (history) {
+                int position = Collections.binarySearch(history, entry, NEWEST_FIRST);
+                if (position >= 0) {
+                    history.remove(position);
+                }
+                return history.isEmpty() ? null : history;
+            }
+        });
+    }
+
+    public List<UUID> find(UUID owner) {
+        return find(owner, 0, Integer.MAX_VALUE);
+    }
+
+    public List<UUID> find(UUID owner, int offset, int limit) {
+        List<Entry> history = owner != null ? histories.get(owner) : null;
+        if (history == null || offset < 0 || limit <= 0) {
+            return List.of();
+        }
+        synchronized (history) {
+            if (offset >= history.size()) {
+                return List.of();
+            }
+            int end = (int) Math.min(history.size(), (long) offset + limit);
+            return history.subList(offset, end).stream().map(Entry::id).toList();
+        }
+    }
+
+    @Override
+    public Optional<Collection<UUID>> lookup(Specification<Session> criterion) {
+        if (criterion instanceof Criteria.Equals<Session, ?> equals
+              && equals.attribute().name().equals(name) && equals.value() instanceof UUID owner) {
+            return Optional.of(find(owner));
+        }
+        return Optional.empty();
+    }
+
+    public int count(UUID owner) {
+        List<Entry> history = owner != null ? histories.get(owner) : null;
+        if (history == null) {
+            return 0;
+        }
+        synchronized (history) {
+            return history.size();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Індекс %s: власників %d", name, histories.size());
+    }
+
+    private record Entry(LocalDateTime startTime, UUID id) {
+    }
+}
@@ -0,0 +1,154 @@
+package storage.index;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import models.entities.Payment;
+import storage.binary.BinaryFields;
+import storage.query.Criteria;
+import storage.query.Specification;
+import storage.repository.FileStamp;
+import storage.repository.GroupCommitWriter;
+
+public class SessionPaymentIndex implements PersistentIndex<Payment> {
+
+    private static final int MAGIC = 0x43435350;
+    private static final short VERSION = 1;
+
+    private final Path file;
+    private final GroupCommitWriter writer;
+    private final Map<UUID, PaymentRef> bySession = new ConcurrentHashMap<>();
+
+    private volatile boolean restored;
+
+    public SessionPaymentIndex() {
+        this(null, null);
+    }
+
+    public SessionPaymentIndex(Path file, GroupCommitWriter writer) {
+        this.file = file;
+        this.writer = writer;
+    }
+
+    @Override
+    public void rebuild(Collection<Payment> payments) {
+        bySession.clear();
+        for (Payment payment : payments) {
+            add(payment);
+        }
+        restored = false;
+    }
+
+    @Override
+    public void add(Payment payment) {
+        if (payment.getSessionId() != null) {
+            bySession.put(payment.getSessionId(),
+                  new PaymentRef(payment.getId(), payment.getPaymentTime()));
+        }
+    }
+
+    @Override
+    public void remove(Payment payment) {
+        if (payment.getSessionId() != null) {
+            bySession.computeIfPresent(payment.getSessionId(),
+                  (ignored, ref) -> ref.paymentId().equals(payment.getId()) ? null : ref);
+        }
+    }
+
+    public Optional<PaymentRef> find(UUID sessionId) {
+        return sessionId != null ? Optional.ofNullable(bySession.get(sessionId)) : Optional.empty();
+    }
+
+    public List<UUID> findPaymentIds(UUID sessionId) {
+        return find(sessionId).map(ref -> List.of(ref.paymentId())).orElse(List.of());
+    }
+
+    @Override
+    public Optional<Collection<UUID>> lookup(Specification<Payment> criterion) {
+        if (criterion instanceof Criteria.Equals<Payment, ?> equals
+              && equals.attribute().name().equals("sessionId")
+              && equals.value() instanceof UUID sessionId) {
+            return Optional.of(findPaymentIds(sessionId));
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean restore(List<FileStamp> sources) {
+        if (file == null || !Files.exists(file)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(
+              new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                return false;
+            }
+            if (!FileStamp.matches(FileStamp.readAll(in), sources)) {
+                return false;
+            }
+            int count = in.readInt();
+            Map<UUID, PaymentRef> loaded = new ConcurrentHashMap<>(Math.max(16, count * 2));
+            for (int i = 0; i < count; i++) {
+                loaded.put(BinaryFields.readUuid(in),
+                      new PaymentRef(BinaryFields.readUuid(in), BinaryFields.readDateTime(in)));
+            }
+            bySession.clear();
+            bySession.putAll(loaded);
+            restored = true;
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void persist(List<FileStamp> sources) {
+        if (file == null) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            FileStamp.writeAll(out, sources);
+            Map<UUID, PaymentRef> snapshot = Map.copyOf(bySession);
+            out.writeInt(snapshot.size());
+            for (Map.Entry<UUID, PaymentRef> entry : snapshot.entrySet()) {
+                BinaryFields.writeUuid(out, entry.getKey());
+                BinaryFields.writeUuid(out, entry.getValue().paymentId());
+                BinaryFields.writeDateTime(out, entry.getValue().paymentTime());
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка кодування індексу: " + file, e);
+        }
+        writer.replace(file, bytes.toByteArray());
+    }
+
+    public boolean isRestored() {
+        return restored;
+    }
+
+    public int size() {
+        return bySession.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Індекс платежів за сесією: %d, %s", bySession.size(),
+              restored ? "відновлено з диска" : "перебудовано");
+    }
+
+    public record PaymentRef(UUID paymentId, LocalDateTime paymentTime) {
+    }
+}
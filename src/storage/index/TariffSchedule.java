@@ -0,0 +1,107 @@
+package storage.index;
+
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import models.entities.Tariff;
+
+public class TariffSchedule implements EntityIndex<Tariff> {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final Map<UUID, Tariff> tariffs = new HashMap<>();
+    private final Map<UUID, Long> positions = new HashMap<>();
+
+    private long nextPosition;
+
+    private volatile UUID[] slots;
+
+    public static boolean covers(Tariff tariff, LocalTime time) {
+        if (tariff.getStartHour() == null || tariff.getEndHour() == null) {
+            return false;
+        }
+        int minute = minuteOf(time);
+        int start = minuteOf(tariff.getStartHour());
+        int end = minuteOf(tariff.getEndHour());
+        if (start < end) {
+            return minute >= start && minute < end;
+        }
+        return minute >= start || minute < end;
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Tariff> entities) {
+        tariffs.clear();
+        positions.clear();
+        nextPosition = 0;
+        for (Tariff tariff : entities) {
+            add(tariff);
+        }
+        slots = null;
+    }
+
+    @Override
+    public synchronized void add(Tariff tariff) {
+        tariffs.put(tariff.getId(), tariff);
+        positions.computeIfAbsent(tariff.getId(), id -> nextPosition++);
+        slots = null;
+    }
+
+    @Override
+    public synchronized void remove(Tariff tariff) {
+        tariffs.remove(tariff.getId());
+        slots = null;
+    }
+
+    public Optional<UUID> find(LocalTime time) {
+        UUID[] current = slots;
+        if (current == null) {
+            current = compile();
+        }
+        return Optional.ofNullable(current[minuteOf(time)]);
+    }
+
+    private synchronized UUID[] compile() {
+        if (slots != null) {
+            return slots;
+        }
+        UUID[] compiled = new UUID[MINUTES_PER_DAY];
+        List<Tariff> ordered = tariffs.values().stream()
+              .sorted(Comparator.comparing(tariff -> positions.get(tariff.getId())))
+              .toList();
+        for (Tariff tariff : ordered) {
+            if (tariff.getStartHour() == null || tariff.getEndHour() == null) {
+                continue;
+            }
+            int start = minuteOf(tariff.getStartHour());
+            int end = minuteOf(tariff.getEndHour());
+            int length = Math.floorMod(end - start, MINUTES_PER_DAY);
+            if (length == 0) {
+                length = MINUTES_PER_DAY;
+            }
+            for (int i = 0; i < length; i++) {
+                int minute = (start + i) % MINUTES_PER_DAY;
+                if (compiled[minute] == null) {
+                    compiled[minute] = tariff.getId();
+                }
+            }
+        }
+        slots = compiled;
+        return compiled;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Розклад тарифів: %d тарифів, %d хвилинних слотів", tariffs.size(),
+              MINUTES_PER_DAY);
+    }
+}
@@ -0,0 +1,155 @@
+package storage.index;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import models.enums.CohortPeriod;
+import models.util.Entity;
+import storage.query.Criteria;
+import storage.query.Specification;
+
+public class TimeIndex<T extends Entity> implements EntityIndex<T> {
+
+    private static final UUID LOWEST_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final UUID HIGHEST_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private final String name;
+    private final Function<T, LocalDateTime> timeOf;
+    private final NavigableSet<Entry> entries = new ConcurrentSkipListSet<>();
+    private final NavigableMap<LocalDate, Integer> perDay = new ConcurrentSkipListMap<>();
+
+    public TimeIndex(String name, Function<T, LocalDateTime> timeOf) {
+        this.name = name;
+        this.timeOf = timeOf;
+    }
+
+    @Override
+    public void rebuild(Collection<T> entities) {
+        entries.clear();
+        perDay.clear();
+        for (T entity : entities) {
+            add(entity);
+        }
+    }
+
+    @Override
+    public void add(T entity) {
+        LocalDateTime time = timeOf.apply(entity);
+        if (time != null && entries.add(new Entry(time, entity.getId()))) {
+            perDay.merge(time.toLocalDate(), 1, Integer::sum);
+        }
+    }
+
+    @Override
+    public void remove(T entity) {
+        LocalDateTime time = timeOf.apply(entity);
+        if (time != null && entries.remove(new Entry(time, entity.getId()))) {
+            perDay.computeIfPresent(time.toLocalDate(),
+                  (ignored, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    public List<UUID> findBetween(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null || end.isBefore(start)) {
+            return List.of();
+        }
+        return ids(entries.subSet(new Entry(start, LOWEST_ID), true,
+              new Entry(end, HIGHEST_ID), true));
+    }
+
+    public List<UUID> findBefore(LocalDateTime time) {
+        if (time == null) {
+            return List.of();
+        }
+        return ids(entries.headSet(new Entry(time, LOWEST_ID), false));
+    }
+
+    public List<UUID> findFrom(LocalDateTime time) {
+        if (time == null) {
+            return List.of();
+        }
+        return ids(entries.tailSet(new Entry(time, LOWEST_ID), true));
+    }
+
+    @Override
+    public Optional<Collection<UUID>> lookup(Specification<T> criterion) {
+        if (criterion instanceof Criteria.Range<T, ?> range
+              && range.attribute().name().equals(name)
+              && isTimeOrNull(range.from()) && isTimeOrNull(range.to())) {
+            LocalDateTime from = (LocalDateTime) range.from();
+            LocalDateTime to = (LocalDateTime) range.to();
+            return Optional.of(findBetween(from != null ? from : LocalDateTime.MIN,
+                  to != null ? to : LocalDateTime.MAX));
+        }
+        if (criterion instanceof Criteria.Equals<T, ?> equals
+              && equals.attribute().name().equals(name)
+              && equals.value() instanceof LocalDateTime time) {
+            return Optional.of(findBetween(time, time));
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isTimeOrNull(Object value) {
+        return value == null || value instanceof LocalDateTime;
+    }
+
+    public NavigableMap<LocalDate, Integer> countBy(CohortPeriod period, LocalDate from,
+          LocalDate to) {
+        NavigableMap<LocalDate, Integer> cohorts = new TreeMap<>();
+        if (from == null || to == null || to.isBefore(from)) {
+            return cohorts;
+        }
+        for (LocalDate start = period.startOf(from); !start.isAfter(to);
+              start = period.next(start)) {
+            LocalDate first = start.isBefore(from) ? from : start;
+            LocalDate last = period.next(start).minusDays(1);
+            int count = 0;
+            for (int perDate : perDay.subMap(first, true, last.isAfter(to) ? to : last, true)
+                  .values()) {
+                count += perDate;
+            }
+            cohorts.put(start, count);
+        }
+        return cohorts;
+    }
+
+    private List<UUID> ids(Collection<Entry> slice) {
+        List<UUID> result = new ArrayList<>();
+        for (Entry entry : slice) {
+            result.add(entry.id());
+        }
+        return result;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Індекс %s: записів %d", name, entries.size());
+    }
+
+    private record Entry(LocalDateTime time, UUID id) implements Comparable<Entry> {
+
+        @Override
+        public int compareTo(Entry other) {
+            int byTime = time.compareTo(other.time);
+            return byTime != 0 ? byTime : id.compareTo(other.id);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package storage.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import models.util.Entity;
+import storage.query.Criteria;
+import storage.query.Specification;
+
+public class TrigramIndex<T extends Entity> implements EntityIndex<T> {
+
+    private static final int GRAM = 3;
+    private static final int MIN_COMPACT_DEAD = 1024;
+
+    private final String name;
+    private final Function<T, String> keyOf;
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<UUID> ids = new ArrayList<>();
+    private final List<String> keys = new ArrayList<>();
+
+    private int dead;
+    private volatile long lastRebuildMillis;
+
+    public TrigramIndex(String name, Function<T, String> keyOf) {
+        this.name = name;
+        this.keyOf = keyOf;
+    }
+
+    public static Comparator<String> relevance(String query) {
+        String needle = HashIndex.normalize(query);
+        return Comparator.<String>comparingInt(key -> key.equals(needle) ? 0
+                    : key.startsWith(needle) ? 1 : 2)
+              .thenComparingInt(String::length)
+              .thenComparing(Comparator.naturalOrder());
+    }
+
+    @Override
+    public void rebuild(Collection<T> entities) {
+        long started = System.nanoTime();
+        List<Map.Entry<UUID, String>> folded = List.copyOf(entities).parallelStream()
+              .filter(entity -> keyOf.apply(entity) != null)
+              .map(entity -> Map.entry(entity.getId(), HashIndex.normalize(keyOf.apply(entity))))
+              .toList();
+        reset(folded);
+        lastRebuildMillis = (System.nanoTime() - started) / 1_000_000;
+    }
+
+    private void reset(List<Map.Entry<UUID, String>> entries) {
+        postings.clear();
+        ordinals.clear();
+        ids.clear();
+        keys.clear();
+        dead = 0;
+        for (Map.Entry<UUID, String> entry : entries) {
+            index(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void add(T entity) {
+        String key = HashIndex.normalize(keyOf.apply(entity));
+        if (key != null) {
+            index(entity.getId(), key);
+        }
+    }
+
+    private void index(UUID id, String key) {
+        int ordinal = ids.size();
+        ids.add(id);
+        keys.add(key);
+        ordinals.put(id, ordinal);
+        for (int i = 0; i + GRAM <= key.length(); i++) {
+            postings.computeIfAbsent(pack(key, i), ignored -> new Postings()).add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(T entity) {
+        Integer ordinal = ordinals.remove(entity.getId());
+        if (ordinal == null) {
+            return;
+        }
+        keys.set(ordinal, null);
+        dead++;
+        if (dead >= MIN_COMPACT_DEAD && dead > ordinals.size()) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        List<Map.Entry<UUID, String>> live = new ArrayList<>(ordinals.size());
+        for (int ordinal = 0; ordinal < ids.size(); ordinal++) {
+            if (keys.get(ordinal) != null) {
+                live.add(Map.entry(ids.get(ordinal), keys.get(ordinal)));
+            }
+        }
+        reset(live);
+    }
+
+    public List<UUID> search(String query) {
+        String needle = HashIndex.normalize(query);
+        if (needle == null) {
+            return List.of();
+        }
+
+        List<Integer> matches = new ArrayList<>();
+        if (needle.length() < GRAM) {
+            for (int ordinal = 0; ordinal < keys.size(); ordinal++) {
+                verify(ordinal, needle, matches);
+            }
+        } else {
+            int[] candidates = candidates(needle);
+            for (int ordinal : candidates) {
+                verify(ordinal, needle, matches);
+            }
+        }
+
+        Comparator<String> relevance = relevance(needle);
+        matches.sort((left, right) -> relevance.compare(keys.get(left), keys.get(right)));
+        List<UUID> result = new ArrayList<>(matches.size());
+        for (int ordinal : matches) {
+            result.add(ids.get(ordinal));
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Collection<UUID>> lookup(Specification<T> criterion) {
+        if (criterion instanceof Criteria.Contains<T> contains
+              && contains.attribute().name().equals(name)) {
+            return Optional.of(search(contains.needle()));
+        }
+        if (criterion instanceof Criteria.Equals<T, ?> equals
+              && equals.attribute().name().equals(name) && equals.value() instanceof String key) {
+            return Optional.of(search(key));
+        }
+        return Optional.empty();
+    }
+
+    private void verify(int ordinal, String needle, List<Integer> matches) {
+        String key = keys.get(ordinal);
+        if (key != null && key.contains(needle)) {
+            matches.add(ordinal);
+        }
+    }
+
+    private int[] candidates(String needle) {
+        List<Postings> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM <= needle.length(); i++) {
+            Postings list = postings.get(pack(needle, i));
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        int[] result = lists.getFirst().toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = lists.get(i).intersect(result);
+        }
+        return result;
+    }
+
+    private static long pack(String key, int offset) {
+        return ((long) key.charAt(offset) << 42)
+              | ((long) key.charAt(offset + 1) << 21)
+              | key.charAt(offset + 2);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getLastRebuildMillis() {
+        return lastRebuildMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Індекс %s: триграм %d, записів %d, перебудова %d мс", name,
+              postings.size(), ordinals.size(), lastRebuildMillis);
+    }
+
+    private static class Postings {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        private void add(int ordinal) {
+            if (size > 0 && ordinals[size - 1] == ordinal) {
+                return;
+            }
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(ordinals, size);
+        }
+
+        private int[] intersect(int[] sorted) {
+            int[] result = new int[Math.min(size, sorted.length)];
+            int count = 0;
+            if (sorted.length * 16 < size) {
+                for (int ordinal : sorted) {
+                    if (Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0) {
+                        result[count++] = ordinal;
+                    }
+                }
+                return Arrays.copyOf(result, count);
+            }
+            int left = 0;
+            int right = 0;
+            while (left < size && right < sorted.length) {
+                if (ordinals[left] < sorted[right]) {
+                    left++;
+                } else if (ordinals[left] > sorted[right]) {
+                    right++;
+                } else {
+                    result[count++] = sorted[right];
+                    left++;
+                    right++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+}
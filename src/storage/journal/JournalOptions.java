@@ -0,0 +1,19 @@
+package storage.journal;
+
+import java.time.Duration;
+
+public record JournalOptions(int compactThreshold, Duration compactInterval) {
+
+    public JournalOptions {
+        if (compactThreshold <= 0) {
+            throw new IllegalArgumentException("Поріг компактування повинен бути додатним");
+        }
+        if (compactInterval == null || compactInterval.isZero() || compactInterval.isNegative()) {
+            throw new IllegalArgumentException("Інтервал компактування повинен бути додатним");
+        }
+    }
+
+    public static JournalOptions defaults() {
+        return new JournalOptions(1000, Duration.ofMinutes(1));
+    }
+}
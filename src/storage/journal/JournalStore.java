@@ -0,0 +1,325 @@
+package storage.journal;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import models.util.Entity;
+import storage.contracts.EntityStore;
+import storage.repository.GroupCommitWriter;
+import storage.repository.JsonFileStore;
+import storage.util.GsonFactory;
+
+public class JournalStore<T extends Entity> implements EntityStore<T>, AutoCloseable {
+
+    private static final String OP_PUT = "PUT";
+    private static final String OP_DELETE = "DELETE";
+
+    private final JsonFileStore<T> snapshotStore;
+    private final Path journalPath;
+    private final Class<T> entityType;
+    private final Gson gson;
+    private final JournalOptions options;
+    private final GroupCommitWriter writer;
+    private final Object lock = new Object();
+
+    private ScheduledExecutorService compactor;
+    private CompletableFuture<Void> lastAppend = CompletableFuture.completedFuture(null);
+    private int journalRecords;
+
+    public JournalStore(String snapshotPath, Class<T> entityType, JournalOptions options) {
+        this(snapshotPath, entityType, options, GroupCommitWriter.shared());
+    }
+
+    public JournalStore(String snapshotPath, Class<T> entityType, JournalOptions options,
+          GroupCommitWriter writer) {
+        this.snapshotStore = new JsonFileStore<>(snapshotPath, entityType, writer);
+        this.journalPath = Path.of(snapshotPath.replaceFirst("\\.json$", "") + ".journal");
+        this.entityType = entityType;
+        this.gson = GsonFactory.builder().create();
+        this.options = options;
+        this.writer = writer;
+        ensureJournalExists();
+    }
+
+    public synchronized void start() {
+        if (compactor != null) {
+            return;
+        }
+        compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-compactor-" + journalPath.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = options.compactInterval().toMillis();
+        compactor.scheduleWithFixedDelay(this::compactIfNeeded, intervalMillis, intervalMillis,
+              TimeUnit.MILLISECONDS);
+    }
+
+    private void ensureJournalExists() {
+        try {
+            if (!Files.exists(journalPath)) {
+                Files.createFile(journalPath);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Не вдалося створити журнал: " + journalPath, e);
+        }
+    }
+
+    @Override
+    public List<T> loadAll() {
+        synchronized (lock) {
+            return new ArrayList<>(replay().values());
+        }
+    }
+
+    private Map<UUID, T> replay() {
+        Map<UUID, T> live = new LinkedHashMap<>();
+        for (T entity : snapshotStore.loadAll()) {
+            live.put(entity.getId(), entity);
+        }
+
+        long validBytes = 0;
+        int records = 0;
+        boolean tornTail = endsTorn();
+        try (BufferedReader reader = Files.newBufferedReader(journalPath,
+              StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line = reader.readLine();
+            while (line != null) {
+                String next = reader.readLine();
+                if (next == null && tornTail) {
+                    break;
+                }
+                lineNumber++;
+                if (!line.isBlank()) {
+                    apply(line, lineNumber, live);
+                    records++;
+                }
+                validBytes += line.getBytes(StandardCharsets.UTF_8).length + 1;
+                line = next;
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка читання журналу: " + journalPath, e);
+        }
+
+        truncateTornTail(validBytes);
+        journalRecords = records;
+        return live;
+    }
+
+    private boolean endsTorn() {
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+            if (journal.size() == 0) {
+                return false;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            journal.read(last, journal.size() - 1);
+            return last.get(0) != '\n';
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка читання журналу: " + journalPath, e);
+        }
+    }
+
+    private void apply(String line, int lineNumber, Map<UUID, T> live) {
+        JsonObject record;
+        try {
+            record = gson.fromJson(line, JsonObject.class);
+        } catch (JsonParseException e) {
+            throw corrupted(lineNumber, e);
+        }
+        if (record == null) {
+            throw corrupted(lineNumber, null);
+        }
+
+        String op = stringField(record, "op", lineNumber);
+        if (OP_PUT.equals(op)) {
+            JsonElement json = record.get("entity");
+            if (json == null || !json.isJsonObject()) {
+                throw corrupted(lineNumber, null);
+            }
+            T entity;
+            try {
+                entity = gson.fromJson(json, entityType);
+            } catch (JsonParseException e) {
+                throw corrupted(lineNumber, e);
+            }
+            if (entity == null || entity.getId() == null) {
+                throw corrupted(lineNumber, null);
+            }
+            live.put(entity.getId(), entity);
+        } else if (OP_DELETE.equals(op)) {
+            String id = stringField(record, "id", lineNumber);
+            try {
+                live.remove(UUID.fromString(id));
+            } catch (IllegalArgumentException e) {
+                throw corrupted(lineNumber, e);
+            }
+        } else {
+            throw corrupted(lineNumber, null);
+        }
+    }
+
+    private String stringField(JsonObject record, String name, int lineNumber) {
+        JsonElement field = record.get(name);
+        if (field == null || !field.isJsonPrimitive() || !field.getAsJsonPrimitive().isString()) {
+            throw corrupted(lineNumber, null);
+        }
+        return field.getAsString();
+    }
+
+    private IllegalArgumentException corrupted(int lineNumber, Exception cause) {
+        return new IllegalArgumentException(
+              "Пошкоджений запис журналу " + journalPath + " у рядку " + lineNumber, cause);
+    }
+
+    private void truncateTornTail(long validBytes) {
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            if (journal.size() > validBytes) {
+                journal.truncate(validBytes);
+                journal.force(true);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка відновлення журналу: " + journalPath, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> insert(T entity, Collection<T> snapshot) {
+        return append(putRecord(entity));
+    }
+
+    @Override
+    public CompletableFuture<Void> update(T entity, Collection<T> snapshot) {
+        return append(putRecord(entity));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(UUID id, Collection<T> snapshot) {
+        return append(deleteRecord(id));
+    }
+
+    private JsonObject deleteRecord(UUID id) {
+        JsonObject record = new JsonObject();
+        record.addProperty("op", OP_DELETE);
+        record.addProperty("id", id.toString());
+        return record;
+    }
+
+    @Override
+    public int sizeOf(T entity) {
+        return gson.toJson(putRecord(entity)).getBytes(StandardCharsets.UTF_8).length + 1;
+    }
+
+    @Override
+    public CompletableFuture<Void> applyAll(Collection<T> written, Collection<UUID> deleted,
+          Collection<T> snapshot) {
+        StringBuilder batch = new StringBuilder();
+        for (T entity : written) {
+            batch.append(gson.toJson(putRecord(entity))).append('\n');
+        }
+        for (UUID id : deleted) {
+            batch.append(gson.toJson(deleteRecord(id))).append('\n');
+        }
+        byte[] bytes = batch.toString().getBytes(StandardCharsets.UTF_8);
+        synchronized (lock) {
+            lastAppend = writer.submitAppend(journalPath, bytes);
+            journalRecords += written.size() + deleted.size();
+            return lastAppend;
+        }
+    }
+
+    private JsonObject putRecord(T entity) {
+        JsonObject record = new JsonObject();
+        record.addProperty("op", OP_PUT);
+        record.add("entity", gson.toJsonTree(entity, entityType));
+        return record;
+    }
+
+    private CompletableFuture<Void> append(JsonObject record) {
+        byte[] bytes = (gson.toJson(record) + "\n").getBytes(StandardCharsets.UTF_8);
+        synchronized (lock) {
+            lastAppend = writer.submitAppend(journalPath, bytes);
+            journalRecords++;
+            return lastAppend;
+        }
+    }
+
+    @Override
+    public void writeAll(Collection<T> entities) {
+        synchronized (lock) {
+            GroupCommitWriter.await(lastAppend, journalPath);
+            snapshotStore.writeAll(entities);
+            truncateJournal();
+        }
+    }
+
+    public void compact() {
+        synchronized (lock) {
+            GroupCommitWriter.await(lastAppend, journalPath);
+            snapshotStore.writeAll(replay().values());
+            truncateJournal();
+        }
+    }
+
+    private void compactIfNeeded() {
+        try {
+            if (getJournalRecords() >= options.compactThreshold()) {
+                compact();
+            }
+        } catch (RuntimeException e) {
+            System.out.println("✗ Помилка компактування журналу: " + e.getMessage());
+        }
+    }
+
+    private void truncateJournal() {
+        writer.replace(journalPath, new byte[0]);
+        journalRecords = 0;
+    }
+
+    public int getJournalRecords() {
+        synchronized (lock) {
+            return journalRecords;
+        }
+    }
+
+    @Override
+    public String getLocation() {
+        return journalPath.toString();
+    }
+
+    @Override
+    public List<Path> getFiles() {
+        return List.of(Path.of(snapshotStore.getLocation()), journalPath);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (compactor != null) {
+                compactor.shutdown();
+            }
+        }
+        synchronized (lock) {
+            GroupCommitWriter.await(lastAppend, journalPath);
+        }
+    }
+}
@@ -0,0 +1,504 @@
+package storage.mapped;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import models.entities.Session;
+import storage.contracts.SessionRepository;
+import storage.contracts.StaleEntityException;
+import storage.index.ActiveSessionIndex;
+import storage.index.EntityIndex;
+import storage.index.SessionHistoryIndex;
+import storage.index.TimeIndex;
+import storage.query.QueryPlan;
+import storage.query.QueryPlanner;
+import storage.query.QueryResult;
+import storage.query.Specification;
+import storage.repository.GroupCommitWriter;
+
+public class MappedSessionRepository implements SessionRepository, AutoCloseable {
+
+    public static final int MAGIC = 0x43435353;
+    public static final short VERSION = 2;
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 104;
+
+    private static final short LEGACY_VERSION = 1;
+    private static final int LEGACY_RECORD_SIZE = 96;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final byte SLOT_FREE = 0;
+    private static final byte SLOT_USED = 1;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+    private static final byte NULL_SCALE = Byte.MIN_VALUE;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final int STATUS = 0;
+    private static final int ID = 1;
+    private static final int CLIENT_ID = 17;
+    private static final int COMPUTER_ID = 33;
+    private static final int TARIFF_ID = 49;
+    private static final int START_TIME = 65;
+    private static final int END_TIME = 73;
+    private static final int COST_SCALE = 81;
+    private static final int COST_UNSCALED = 82;
+    private static final int ACTIVE = 90;
+    private static final int ROW_VERSION = 91;
+
+    private final Path filePath;
+    private final FileChannel channel;
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final ActiveSessionIndex activeIndex = new ActiveSessionIndex();
+    private final TimeIndex<Session> startIndex = new TimeIndex<>("startTime",
+          Session::getStartTime);
+    private final SessionHistoryIndex clientHistory = new SessionHistoryIndex("clientId",
+          Session::getClientId);
+    private final SessionHistoryIndex computerHistory = new SessionHistoryIndex("computerId",
+          Session::getComputerId);
+    private final List<EntityIndex<Session>> indexes = List.of(activeIndex, startIndex,
+          clientHistory, computerHistory);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int usedSlots;
+
+    public MappedSessionRepository(String filePath) {
+        this(filePath, GroupCommitWriter.shared());
+    }
+
+    public MappedSessionRepository(String filePath, GroupCommitWriter writer) {
+        this.filePath = Path.of(filePath);
+        try {
+            Files.createDirectories(this.filePath.toAbsolutePath().getParent());
+            upgradeLegacy(this.filePath, writer);
+            this.channel = FileChannel.open(this.filePath, StandardOpenOption.CREATE,
+                  StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                map(INITIAL_CAPACITY);
+                writeHeader();
+            } else {
+                map((int) ((size - HEADER_SIZE) / RECORD_SIZE));
+                checkHeader();
+                rebuildIndex();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Не вдалося відкрити файл: " + filePath, e);
+        }
+    }
+
+    private static void upgradeLegacy(Path path, GroupCommitWriter writer) throws IOException {
+        if (!Files.exists(path) || Files.size(path) < HEADER_SIZE) {
+            return;
+        }
+        ByteBuffer legacy = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (legacy.getInt(0) != MAGIC || legacy.getShort(4) != LEGACY_VERSION
+              || legacy.getShort(6) != LEGACY_RECORD_SIZE) {
+            return;
+        }
+        int count = (legacy.capacity() - HEADER_SIZE) / LEGACY_RECORD_SIZE;
+        ByteBuffer upgraded = ByteBuffer.allocate(HEADER_SIZE + count * RECORD_SIZE);
+        upgraded.put(0, legacy, 0, HEADER_SIZE);
+        upgraded.putShort(4, VERSION);
+        upgraded.putShort(6, (short) RECORD_SIZE);
+        for (int slot = 0; slot < count; slot++) {
+            int from = HEADER_SIZE + slot * LEGACY_RECORD_SIZE;
+            int to = HEADER_SIZE + slot * RECORD_SIZE;
+            upgraded.put(to, legacy, from, ROW_VERSION);
+            upgraded.putLong(to + ROW_VERSION, legacy.getInt(from + ROW_VERSION));
+        }
+        writer.replace(path, upgraded.array());
+    }
+
+    private void map(int newCapacity) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+              HEADER_SIZE + (long) newCapacity * RECORD_SIZE);
+        capacity = newCapacity;
+    }
+
+    private void writeHeader() {
+        buffer.putInt(0, MAGIC);
+        buffer.putShort(4, VERSION);
+        buffer.putShort(6, (short) RECORD_SIZE);
+        buffer.force(0, HEADER_SIZE);
+    }
+
+    private void checkHeader() {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Файл не є сховищем сесій: " + filePath);
+        }
+        short version = buffer.getShort(4);
+        if (version != VERSION || buffer.getShort(6) != RECORD_SIZE) {
+            throw new IllegalArgumentException("Непідтримувана версія сховища сесій: " + version);
+        }
+    }
+
+    private void rebuildIndex() {
+        usedSlots = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            int offset = offset(slot);
+            if (buffer.get(offset + STATUS) == SLOT_USED) {
+                slots.put(readUuid(offset + ID), slot);
+                usedSlots = slot + 1;
+                index(readRecord(offset));
+            }
+        }
+        for (int slot = 0; slot < usedSlots; slot++) {
+            if (buffer.get(offset(slot) + STATUS) != SLOT_USED) {
+                freeSlots.add(slot);
+            }
+        }
+    }
+
+    @Override
+    public Session save(Session entity) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.get(entity.getId());
+            if (slot == null) {
+                encodableCost(entity.getTotalCost());
+                slot = allocate();
+                slots.put(entity.getId(), slot);
+                writeRecord(slot, entity);
+                index(entity);
+                return entity;
+            }
+            unindex(readRecord(offset(slot)));
+            try {
+                writeRecord(slot, entity);
+            } finally {
+                index(readRecord(offset(slot)));
+            }
+            return entity;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Session update(Session entity) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.get(entity.getId());
+            if (slot == null) {
+                throw new IllegalArgumentException(
+                      "Сесію з ID " + entity.getId() + " не знайдено");
+            }
+            Session current = readRecord(offset(slot));
+            StaleEntityException.check(current, entity);
+            entity.setVersion(current.getVersion() + 1);
+            unindex(current);
+            try {
+                if (sameIdentity(offset(slot), entity)) {
+                    patchCompletion(slot, entity);
+                } else {
+                    writeRecord(slot, entity);
+                }
+            } catch (RuntimeException e) {
+                entity.setVersion(current.getVersion());
+                throw e;
+            } finally {
+                index(readRecord(offset(slot)));
+            }
+            return entity;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(id);
+            if (slot != null) {
+                int offset = offset(slot);
+                unindex(readRecord(offset));
+                buffer.put(offset + STATUS, SLOT_FREE);
+                buffer.force(offset, 1);
+                freeSlots.add(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Session session) {
+        activeIndex.add(session);
+        startIndex.add(session);
+        clientHistory.add(session);
+        computerHistory.add(session);
+    }
+
+    private void unindex(Session session) {
+        activeIndex.remove(session);
+        startIndex.remove(session);
+        clientHistory.remove(session);
+        computerHistory.remove(session);
+    }
+
+    @Override
+    public Optional<Session> findById(UUID id) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slots.get(id);
+            return slot != null ? Optional.of(readRecord(offset(slot))) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Session> findAll() {
+        return filter(session -> true);
+    }
+
+    @Override
+    public List<Session> findByClientId(UUID clientId) {
+        return findIndexed(clientHistory.find(clientId));
+    }
+
+    @Override
+    public List<Session> findByClientId(UUID clientId, int offset, int limit) {
+        return findIndexed(clientHistory.find(clientId, offset, limit));
+    }
+
+    @Override
+    public List<Session> findByComputerId(UUID computerId) {
+        return findIndexed(computerHistory.find(computerId));
+    }
+
+    @Override
+    public Optional<Session> findActiveByClientId(UUID clientId) {
+        return findIndexed(activeIndex.findByClient(clientId)).stream().findFirst();
+    }
+
+    @Override
+    public Optional<Session> findActiveByComputerId(UUID computerId) {
+        return findIndexed(activeIndex.findByComputer(computerId)).stream().findFirst();
+    }
+
+    @Override
+    public List<Session> findActive() {
+        return findIndexed(activeIndex.findAll());
+    }
+
+    @Override
+    public List<Session> findByStartTimeBetween(LocalDateTime start, LocalDateTime end) {
+        return findIndexed(startIndex.findBetween(start, end));
+    }
+
+    private List<Session> findIndexed(List<UUID> ids) {
+        lock.readLock().lock();
+        try {
+            List<Session> result = new ArrayList<>(ids.size());
+            for (UUID id : ids) {
+                Integer slot = slots.get(id);
+                if (slot != null) {
+                    result.add(readRecord(offset(slot)));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Session> findAll(Specification<Session> specification) {
+        return query(specification).rows();
+    }
+
+    @Override
+    public QueryPlan explain(Specification<Session> specification) {
+        return query(specification).plan();
+    }
+
+    private QueryResult<Session> query(Specification<Session> specification) {
+        lock.readLock().lock();
+        try {
+            return QueryPlanner.execute(specification, indexes, id -> {
+                Integer slot = slots.get(id);
+                return slot != null ? readRecord(offset(slot)) : null;
+            }, this::findAll);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Session> filter(Predicate<Session> predicate) {
+        lock.readLock().lock();
+        try {
+            List<Session> result = new ArrayList<>();
+            for (int slot = 0; slot < usedSlots; slot++) {
+                int offset = offset(slot);
+                if (buffer.get(offset + STATUS) == SLOT_USED) {
+                    Session session = readRecord(offset);
+                    if (predicate.test(session)) {
+                        result.add(session);
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int allocate() {
+        Integer free = freeSlots.poll();
+        if (free != null) {
+            return free;
+        }
+        if (usedSlots == capacity) {
+            try {
+                map(Math.max(INITIAL_CAPACITY, capacity * 2));
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Не вдалося розширити файл: " + filePath, e);
+            }
+        }
+        return usedSlots++;
+    }
+
+    private int offset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    private void writeRecord(int slot, Session session) {
+        BigDecimal cost = encodableCost(session.getTotalCost());
+        int offset = offset(slot);
+        writeUuid(offset + ID, session.getId());
+        writeUuid(offset + CLIENT_ID, session.getClientId());
+        writeUuid(offset + COMPUTER_ID, session.getComputerId());
+        writeUuid(offset + TARIFF_ID, session.getTariffId());
+        buffer.putLong(offset + START_TIME, toNanos(session.getStartTime()));
+        writeCompletion(offset, session, cost);
+        buffer.put(offset + STATUS, SLOT_USED);
+        buffer.force(offset, RECORD_SIZE);
+    }
+
+    private void patchCompletion(int slot, Session session) {
+        BigDecimal cost = encodableCost(session.getTotalCost());
+        int offset = offset(slot);
+        writeCompletion(offset, session, cost);
+        buffer.force(offset + END_TIME, ROW_VERSION + Long.BYTES - END_TIME);
+    }
+
+    private static BigDecimal encodableCost(BigDecimal cost) {
+        if (cost == null) {
+            return null;
+        }
+        BigDecimal normalized = cost.scale() < 0 ? cost.setScale(0) : cost;
+        if (normalized.scale() >= Byte.MAX_VALUE || normalized.unscaledValue().bitLength() > 63) {
+            throw new IllegalArgumentException("Сума не вміщується у запис: " + cost);
+        }
+        return normalized;
+    }
+
+    private void writeCompletion(int offset, Session session, BigDecimal cost) {
+        buffer.putLong(offset + END_TIME, toNanos(session.getEndTime()));
+        if (cost == null) {
+            buffer.put(offset + COST_SCALE, NULL_SCALE);
+            buffer.putLong(offset + COST_UNSCALED, 0L);
+        } else {
+            buffer.put(offset + COST_SCALE, (byte) cost.scale());
+            buffer.putLong(offset + COST_UNSCALED, cost.unscaledValue().longValue());
+        }
+        buffer.put(offset + ACTIVE, (byte) (session.isActive() ? 1 : 0));
+        buffer.putLong(offset + ROW_VERSION, session.getVersion());
+    }
+
+    private boolean sameIdentity(int offset, Session session) {
+        return session.getClientId() != null
+              && session.getClientId().equals(readUuid(offset + CLIENT_ID))
+              && session.getComputerId() != null
+              && session.getComputerId().equals(readUuid(offset + COMPUTER_ID))
+              && session.getTariffId() != null
+              && session.getTariffId().equals(readUuid(offset + TARIFF_ID))
+              && toNanos(session.getStartTime()) == buffer.getLong(offset + START_TIME);
+    }
+
+    private Session readRecord(int offset) {
+        byte scale = buffer.get(offset + COST_SCALE);
+        BigDecimal cost = scale == NULL_SCALE ? null
+              : new BigDecimal(BigInteger.valueOf(buffer.getLong(offset + COST_UNSCALED)), scale);
+        Session session = new Session(readUuid(offset + ID), readUuid(offset + CLIENT_ID),
+              readUuid(offset + COMPUTER_ID), readUuid(offset + TARIFF_ID),
+              fromNanos(buffer.getLong(offset + START_TIME)),
+              fromNanos(buffer.getLong(offset + END_TIME)), cost,
+              buffer.get(offset + ACTIVE) == 1);
+        session.setVersion(buffer.getLong(offset + ROW_VERSION));
+        return session;
+    }
+
+    private void writeUuid(int offset, UUID value) {
+        buffer.putLong(offset, value != null ? value.getMostSignificantBits() : 0L);
+        buffer.putLong(offset + 8, value != null ? value.getLeastSignificantBits() : 0L);
+    }
+
+    private UUID readUuid(int offset) {
+        long most = buffer.getLong(offset);
+        long least = buffer.getLong(offset + 8);
+        return most == 0L && least == 0L ? null : new UUID(most, least);
+    }
+
+    private long toNanos(LocalDateTime value) {
+        if (value == null) {
+            return NULL_TIME;
+        }
+        return Math.addExact(Math.multiplyExact(value.toEpochSecond(ZoneOffset.UTC),
+              NANOS_PER_SECOND), value.getNano());
+    }
+
+    private LocalDateTime fromNanos(long nanos) {
+        if (nanos == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(
+              Math.floorDiv(nanos, NANOS_PER_SECOND), Math.floorMod(nanos, NANOS_PER_SECOND)),
+              ZoneOffset.UTC);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка закриття файлу: " + filePath, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
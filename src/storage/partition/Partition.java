@@ -0,0 +1,58 @@
+package storage.partition;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import models.util.Entity;
+import storage.contracts.EntityStore;
+
+class Partition<T extends Entity> {
+
+    private final LocalDate start;
+    private final EntityStore<T> store;
+
+    private Map<UUID, T> entities;
+
+    Partition(LocalDate start, EntityStore<T> store) {
+        this.start = start;
+        this.store = store;
+    }
+
+    LocalDate getStart() {
+        return start;
+    }
+
+    List<Path> files() {
+        return store.getFiles();
+    }
+
+    boolean isLoaded() {
+        return entities != null;
+    }
+
+    Map<UUID, T> entities() {
+        if (entities == null) {
+            entities = new LinkedHashMap<>();
+            for (T entity : store.loadAll()) {
+                entities.put(entity.getId(), entity);
+            }
+        }
+        return entities;
+    }
+
+    Collection<T> values() {
+        return entities().values();
+    }
+
+    void persist() {
+        store.writeAll(entities().values());
+    }
+
+    void unload() {
+        entities = null;
+    }
+}
@@ -0,0 +1,93 @@
+package storage.partition;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import storage.binary.BinaryFields;
+import storage.repository.FileStamp;
+import storage.repository.GroupCommitWriter;
+
+class PartitionDirectory {
+
+    private static final int MAGIC = 0x43435044;
+    private static final short VERSION = 1;
+
+    private final Path file;
+    private final GroupCommitWriter writer;
+    private final Map<UUID, LocalDate> partitions = new HashMap<>();
+
+    PartitionDirectory(Path file, GroupCommitWriter writer) {
+        this.file = file;
+        this.writer = writer;
+    }
+
+    Optional<LocalDate> find(UUID id) {
+        return Optional.ofNullable(partitions.get(id));
+    }
+
+    void put(UUID id, LocalDate partition) {
+        partitions.put(id, partition);
+    }
+
+    void remove(UUID id) {
+        partitions.remove(id);
+    }
+
+    void clear() {
+        partitions.clear();
+    }
+
+    int size() {
+        return partitions.size();
+    }
+
+    boolean restore(List<FileStamp> sources) {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(
+              new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION
+                  || !FileStamp.matches(FileStamp.readAll(in), sources)) {
+                return false;
+            }
+            int count = in.readInt();
+            Map<UUID, LocalDate> loaded = new HashMap<>(Math.max(16, count * 2));
+            for (int i = 0; i < count; i++) {
+                loaded.put(BinaryFields.readUuid(in), LocalDate.ofEpochDay(in.readLong()));
+            }
+            partitions.clear();
+            partitions.putAll(loaded);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    void persist(List<FileStamp> sources) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            FileStamp.writeAll(out, sources);
+            out.writeInt(partitions.size());
+            for (Map.Entry<UUID, LocalDate> entry : partitions.entrySet()) {
+                BinaryFields.writeUuid(out, entry.getKey());
+                out.writeLong(entry.getValue().toEpochDay());
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка кодування каталогу розділів: " + file, e);
+        }
+        writer.replace(file, bytes.toByteArray());
+    }
+}
@@ -0,0 +1,46 @@
+package storage.partition;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public enum PartitionGranularity {
+    MONTH("month", DateTimeFormatter.ofPattern("yyyy-MM")),
+    DAY("day", DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+
+    private final String key;
+    private final DateTimeFormatter formatter;
+
+    PartitionGranularity(String key, DateTimeFormatter formatter) {
+        this.key = key;
+        this.formatter = formatter;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static PartitionGranularity fromKey(String key) {
+        for (PartitionGranularity granularity : values()) {
+            if (granularity.key.equalsIgnoreCase(key.trim())) {
+                return granularity;
+            }
+        }
+        throw new IllegalArgumentException("Невідома гранулярність розділів: " + key);
+    }
+
+    public LocalDate partitionOf(LocalDateTime time) {
+        LocalDate date = time.toLocalDate();
+        return this == MONTH ? date.withDayOfMonth(1) : date;
+    }
+
+    public String format(LocalDate partition) {
+        return partition.format(formatter);
+    }
+
+    public LocalDate parse(String name) {
+        return this == MONTH
+              ? LocalDate.parse(name + "-01")
+              : LocalDate.parse(name);
+    }
+}
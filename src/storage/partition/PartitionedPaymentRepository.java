@@ -0,0 +1,70 @@
+package storage.partition;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import models.entities.Payment;
+import models.enums.PaymentType;
+import storage.contracts.PaymentRepository;
+import storage.index.SessionPaymentIndex;
+import storage.repository.GroupCommitWriter;
+
+public final class PartitionedPaymentRepository extends PartitionedRepository<Payment> implements
+      PaymentRepository {
+
+    private static final String SESSION_INDEX_FILE = "session.idx";
+
+    private final SessionPaymentIndex sessionIndex;
+
+    public PartitionedPaymentRepository(String directory, PartitionGranularity granularity,
+          int maxLoadedPartitions, GroupCommitWriter writer) {
+        super(directory, Payment.class, granularity, maxLoadedPartitions, writer);
+        this.sessionIndex = addIndex(
+              new SessionPaymentIndex(Path.of(directory).resolve(SESSION_INDEX_FILE), writer));
+    }
+
+    @Override
+    protected String notFoundMessage(UUID id) {
+        return "Платіж з ID " + id + " не знайдено";
+    }
+
+    @Override
+    protected Payment copy(Payment payment) {
+        Payment copy = new Payment(payment.getId(), payment.getSessionId(), payment.getAmount(),
+              payment.getPaymentTime(), payment.getPaymentType());
+        copy.setVersion(payment.getVersion());
+        return copy;
+    }
+
+    @Override
+    protected LocalDateTime partitionTime(Payment payment) {
+        return payment.getPaymentTime();
+    }
+
+    @Override
+    public Optional<Payment> findBySessionId(UUID sessionId) {
+        return sessionIndex.find(sessionId)
+              .flatMap(ref -> findById(ref.paymentId(), ref.paymentTime()));
+    }
+
+    @Override
+    public BigDecimal getTotalRevenue(LocalDateTime date) {
+        LocalDateTime start = date.toLocalDate().atStartOfDay();
+        return findBetween(start, start.plusDays(1).minusNanos(1)).stream()
+              .map(Payment::getAmount)
+              .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Override
+    public List<Payment> findByType(PaymentType type) {
+        return filter(payment -> payment.getPaymentType() == type);
+    }
+
+    @Override
+    public List<Payment> findByPaymentTimeBetween(LocalDateTime start, LocalDateTime end) {
+        return findBetween(start, end);
+    }
+}
@@ -0,0 +1,540 @@
+package storage.partition;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import models.util.Entity;
+import storage.contracts.Repository;
+import storage.contracts.StaleEntityException;
+import storage.index.EntityIndex;
+import storage.index.PersistentIndex;
+import storage.repository.FileStamp;
+import storage.repository.GroupCommitWriter;
+import storage.repository.JsonFileStore;
+
+public abstract class PartitionedRepository<T extends Entity> implements Repository<T>,
+      AutoCloseable {
+
+    private static final String EXTENSION = ".json";
+    private static final String DIRECTORY_FILE = "partitions.idx";
+
+    private final Path directory;
+    private final Class<T> entityType;
+    private final PartitionGranularity granularity;
+    private final int maxLoadedPartitions;
+    private final GroupCommitWriter writer;
+    private final NavigableMap<LocalDate, Partition<T>> partitions = new TreeMap<>();
+    private final Map<LocalDate, Partition<T>> loaded = new LinkedHashMap<>(16, 0.75f, true);
+    private final List<EntityIndex<T>> indexes = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PartitionDirectory locations;
+
+    private boolean located;
+    private boolean indexesDirty;
+
+    protected PartitionedRepository(String directory, Class<T> entityType,
+          PartitionGranularity granularity, int maxLoadedPartitions, GroupCommitWriter writer) {
+        this.directory = Path.of(directory);
+        this.entityType = entityType;
+        this.granularity = granularity;
+        this.maxLoadedPartitions = Math.max(1, maxLoadedPartitions);
+        this.writer = writer;
+        this.locations = new PartitionDirectory(this.directory.resolve(DIRECTORY_FILE), writer);
+        scanPartitions();
+        this.located = partitions.isEmpty() || locations.restore(sourceStamps());
+    }
+
+    protected abstract String notFoundMessage(UUID id);
+
+    protected abstract LocalDateTime partitionTime(T entity);
+
+    protected T copy(T entity) {
+        return entity;
+    }
+
+    private void scanPartitions() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.map(file -> file.getFileName().toString())
+                      .filter(name -> name.endsWith(EXTENSION))
+                      .forEach(this::registerPartition);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Не вдалося прочитати каталог: " + directory, e);
+        }
+    }
+
+    private void registerPartition(String fileName) {
+        String name = fileName.substring(0, fileName.length() - EXTENSION.length());
+        try {
+            LocalDate start = granularity.parse(name);
+            if (granularity.format(start).equals(name)) {
+                partitions.computeIfAbsent(start, this::createPartition);
+            }
+        } catch (DateTimeParseException ignored) {
+            // Files that do not follow the partition naming scheme are not ours.
+        }
+    }
+
+    private Partition<T> createPartition(LocalDate start) {
+        String file = directory.resolve(granularity.format(start) + EXTENSION).toString();
+        return new Partition<>(start, new JsonFileStore<>(file, entityType, writer));
+    }
+
+    protected final <I extends EntityIndex<T>> I addIndex(I index) {
+        lock.lock();
+        try {
+            if (index instanceof PersistentIndex<T> persistent) {
+                if (!persistent.restore(sourceStamps())) {
+                    index.rebuild(stored());
+                    persistent.persist(sourceStamps());
+                }
+            } else {
+                index.rebuild(stored());
+            }
+            indexes.add(index);
+            return index;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<FileStamp> sourceStamps() {
+        List<FileStamp> stamps = new ArrayList<>();
+        for (Partition<T> partition : partitions.values()) {
+            for (Path file : partition.files()) {
+                stamps.add(FileStamp.of(file));
+            }
+        }
+        return stamps;
+    }
+
+    public void persistIndexes() {
+        lock.lock();
+        try {
+            if (!indexesDirty) {
+                return;
+            }
+            List<FileStamp> sources = sourceStamps();
+            for (EntityIndex<T> index : indexes) {
+                if (index instanceof PersistentIndex<T> persistent) {
+                    persistent.persist(sources);
+                }
+            }
+            if (located) {
+                locations.persist(sources);
+            }
+            indexesDirty = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        persistIndexes();
+    }
+
+    public List<EntityIndex<T>> getIndexes() {
+        return List.copyOf(indexes);
+    }
+
+    private void reindex(T removed, T added) {
+        for (EntityIndex<T> index : indexes) {
+            if (removed != null) {
+                index.remove(removed);
+            }
+            if (added != null) {
+                index.add(added);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return partitions.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void importAll(Collection<T> entities) {
+        lock.lock();
+        try {
+            Map<LocalDate, Partition<T>> touched = new LinkedHashMap<>();
+            for (T entity : entities) {
+                Partition<T> partition = partitionFor(entity);
+                T stored = copy(entity);
+                reindex(partition.entities().put(entity.getId(), stored), stored);
+                locations.put(entity.getId(), partition.getStart());
+                touched.put(partition.getStart(), partition);
+            }
+            touched.values().forEach(Partition::persist);
+            touched.values().forEach(Partition::unload);
+            loaded.clear();
+            indexesDirty = true;
+            persistIndexes();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T save(T entity) {
+        lock.lock();
+        try {
+            Partition<T> partition = open(partitionFor(entity));
+            T stored = copy(entity);
+            T previous = partition.entities().put(entity.getId(), stored);
+            try {
+                partition.persist();
+            } catch (RuntimeException e) {
+                reload(List.of(partition));
+                throw e;
+            }
+            locations.put(entity.getId(), partition.getStart());
+            reindex(previous, stored);
+            indexesDirty = true;
+            return entity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T update(T entity) {
+        lock.lock();
+        try {
+            Partition<T> target = open(partitionFor(entity));
+            T previous = target.entities().get(entity.getId());
+            Partition<T> source = null;
+            if (previous == null) {
+                source = locate(entity.getId())
+                      .orElseThrow(() -> new IllegalArgumentException(
+                            notFoundMessage(entity.getId())));
+                previous = source.entities().get(entity.getId());
+            }
+            StaleEntityException.check(previous, entity);
+            T stored = copy(entity);
+            stored.setVersion(previous.getVersion() + 1);
+            try {
+                open(target).entities().put(entity.getId(), stored);
+                target.persist();
+                if (source != null) {
+                    open(source).entities().remove(entity.getId());
+                    source.persist();
+                }
+            } catch (RuntimeException e) {
+                reload(source != null ? List.of(target, source) : List.of(target));
+                throw e;
+            }
+            locations.put(entity.getId(), target.getStart());
+            reindex(previous, stored);
+            entity.setVersion(stored.getVersion());
+            indexesDirty = true;
+            return entity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void applyChanges(Collection<T> created, Collection<T> updated,
+          Collection<UUID> deleted) {
+        lock.lock();
+        try {
+            Map<UUID, T> previous = new LinkedHashMap<>();
+            Map<UUID, Partition<T>> moved = new LinkedHashMap<>();
+            for (T entity : updated) {
+                T current = open(partitionFor(entity)).entities().get(entity.getId());
+                if (current == null) {
+                    Partition<T> source = locate(entity.getId())
+                          .orElseThrow(() -> new IllegalArgumentException(
+                                notFoundMessage(entity.getId())));
+                    moved.put(entity.getId(), source);
+                    current = source.entities().get(entity.getId());
+                }
+                StaleEntityException.check(current, entity);
+                previous.put(entity.getId(), current);
+            }
+
+            Map<LocalDate, List<T>> byPartition = new LinkedHashMap<>();
+            for (T entity : created) {
+                byPartition.computeIfAbsent(partitionFor(entity).getStart(),
+                      ignored -> new ArrayList<>()).add(copy(entity));
+            }
+            for (T entity : updated) {
+                T stored = copy(entity);
+                stored.setVersion(entity.getVersion() + 1);
+                byPartition.computeIfAbsent(partitionFor(entity).getStart(),
+                      ignored -> new ArrayList<>()).add(stored);
+            }
+
+            Map<LocalDate, Partition<T>> sources = new LinkedHashMap<>();
+            for (Partition<T> source : moved.values()) {
+                sources.put(source.getStart(), source);
+            }
+            for (UUID id : deleted) {
+                locate(id).ifPresent(partition -> sources.put(partition.getStart(), partition));
+            }
+
+            try {
+                writeChanges(byPartition, sources, previous, moved, deleted);
+            } catch (RuntimeException e) {
+                List<Partition<T>> touched = new ArrayList<>(sources.values());
+                byPartition.keySet().forEach(start -> touched.add(partitions.get(start)));
+                reload(touched);
+                throw e;
+            }
+            for (T entity : updated) {
+                entity.setVersion(entity.getVersion() + 1);
+            }
+            indexesDirty = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeChanges(Map<LocalDate, List<T>> byPartition,
+          Map<LocalDate, Partition<T>> sources, Map<UUID, T> previous,
+          Map<UUID, Partition<T>> moved, Collection<UUID> deleted) {
+        for (Map.Entry<LocalDate, List<T>> group : byPartition.entrySet()) {
+            Partition<T> partition = open(partitions.get(group.getKey()));
+            for (T entity : group.getValue()) {
+                T replaced = partition.entities().put(entity.getId(), entity);
+                reindex(replaced != null ? replaced : previous.get(entity.getId()), entity);
+                locations.put(entity.getId(), partition.getStart());
+            }
+            partition.persist();
+        }
+
+        for (Partition<T> source : sources.values()) {
+            Partition<T> partition = open(source);
+            boolean changed = false;
+            for (Map.Entry<UUID, Partition<T>> move : moved.entrySet()) {
+                if (move.getValue() == source) {
+                    partition.entities().remove(move.getKey());
+                    changed = true;
+                }
+            }
+            for (UUID id : deleted) {
+                T removed = partition.entities().remove(id);
+                if (removed != null) {
+                    reindex(removed, null);
+                    locations.remove(id);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                partition.persist();
+            }
+        }
+    }
+
+    @Override
+    public void delete(UUID id) {
+        lock.lock();
+        try {
+            Optional<Partition<T>> partition = locate(id);
+            if (partition.isPresent()) {
+                T removed = partition.get().entities().remove(id);
+                try {
+                    partition.get().persist();
+                } catch (RuntimeException e) {
+                    reload(List.of(partition.get()));
+                    throw e;
+                }
+                locations.remove(id);
+                reindex(removed, null);
+                indexesDirty = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<T> findById(UUID id) {
+        lock.lock();
+        try {
+            return locate(id).map(partition -> copy(partition.entities().get(id)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    protected Optional<T> findById(UUID id, LocalDateTime time) {
+        lock.lock();
+        try {
+            Partition<T> partition = partitions.get(granularity.partitionOf(time));
+            if (partition != null && open(partition).entities().containsKey(id)) {
+                return Optional.of(copy(partition.entities().get(id)));
+            }
+            return locate(id).map(found -> copy(found.entities().get(id)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<T> findAll() {
+        return filter(entity -> true);
+    }
+
+    public List<T> findBetween(LocalDateTime start, LocalDateTime end) {
+        lock.lock();
+        try {
+            List<T> result = new ArrayList<>();
+            if (end.isBefore(start)) {
+                return result;
+            }
+            for (Partition<T> partition : partitions.subMap(granularity.partitionOf(start), true,
+                  granularity.partitionOf(end), true).values()) {
+                for (T entity : open(partition).values()) {
+                    LocalDateTime time = partitionTime(entity);
+                    if (!time.isBefore(start) && !time.isAfter(end)) {
+                        result.add(copy(entity));
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    protected List<T> filter(Predicate<T> predicate) {
+        lock.lock();
+        try {
+            List<T> result = new ArrayList<>();
+            for (Partition<T> partition : partitions.values()) {
+                for (T entity : open(partition).values()) {
+                    if (predicate.test(entity)) {
+                        result.add(copy(entity));
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    protected Optional<T> findFirst(Predicate<T> predicate) {
+        lock.lock();
+        try {
+            for (Partition<T> partition : partitions.descendingMap().values()) {
+                for (T entity : open(partition).values()) {
+                    if (predicate.test(entity)) {
+                        return Optional.of(copy(entity));
+                    }
+                }
+            }
+            return Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<T> stored() {
+        List<T> result = new ArrayList<>();
+        for (Partition<T> partition : partitions.values()) {
+            result.addAll(open(partition).values());
+        }
+        return result;
+    }
+
+    private void reload(Collection<Partition<T>> touched) {
+        for (Partition<T> partition : touched) {
+            loaded.remove(partition.getStart());
+            partition.unload();
+        }
+        locateAll();
+        List<T> entities = stored();
+        for (EntityIndex<T> index : indexes) {
+            index.rebuild(entities);
+        }
+    }
+
+    private Optional<Partition<T>> locate(UUID id) {
+        if (!located) {
+            locateAll();
+        }
+        Partition<T> partition = locations.find(id).map(partitions::get).orElse(null);
+        if (partition == null || !open(partition).entities().containsKey(id)) {
+            return Optional.empty();
+        }
+        return Optional.of(partition);
+    }
+
+    private void locateAll() {
+        locations.clear();
+        Map<UUID, Long> versions = new HashMap<>();
+        for (Partition<T> partition : partitions.values()) {
+            for (T entity : open(partition).values()) {
+                Long version = versions.get(entity.getId());
+                if (version == null || entity.getVersion() > version) {
+                    versions.put(entity.getId(), entity.getVersion());
+                    locations.put(entity.getId(), partition.getStart());
+                }
+            }
+        }
+        located = true;
+        indexesDirty = true;
+    }
+
+    private Partition<T> partitionFor(T entity) {
+        return partitions.computeIfAbsent(granularity.partitionOf(partitionTime(entity)),
+              this::createPartition);
+    }
+
+    private Partition<T> open(Partition<T> partition) {
+        loaded.put(partition.getStart(), partition);
+        partition.entities();
+        Iterator<Partition<T>> eldest = loaded.values().iterator();
+        while (loaded.size() > maxLoadedPartitions) {
+            Partition<T> evicted = eldest.next();
+            eldest.remove();
+            evicted.unload();
+        }
+        return partition;
+    }
+
+    public int getPartitionCount() {
+        lock.lock();
+        try {
+            return partitions.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLoadedPartitionCount() {
+        lock.lock();
+        try {
+            return loaded.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
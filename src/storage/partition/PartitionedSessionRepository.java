@@ -0,0 +1,81 @@
+package storage.partition;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import models.entities.Session;
+import storage.contracts.SessionRepository;
+import storage.index.ActiveSessionIndex;
+import storage.repository.GroupCommitWriter;
+
+public class PartitionedSessionRepository extends PartitionedRepository<Session> implements
+      SessionRepository {
+
+    private static final String ACTIVE_INDEX_FILE = "active.idx";
+
+    private final ActiveSessionIndex activeIndex;
+
+    public PartitionedSessionRepository(String directory, PartitionGranularity granularity,
+          int maxLoadedPartitions, GroupCommitWriter writer) {
+        super(directory, Session.class, granularity, maxLoadedPartitions, writer);
+        this.activeIndex = addIndex(
+              new ActiveSessionIndex(Path.of(directory).resolve(ACTIVE_INDEX_FILE), writer));
+    }
+
+    @Override
+    protected String notFoundMessage(UUID id) {
+        return "Сесію з ID " + id + " не знайдено";
+    }
+
+    @Override
+    protected Session copy(Session session) {
+        Session copy = new Session(session.getId(), session.getClientId(),
+              session.getComputerId(), session.getTariffId(), session.getStartTime(),
+              session.getEndTime(), session.getTotalCost(), session.isActive());
+        copy.setVersion(session.getVersion());
+        return copy;
+    }
+
+    @Override
+    protected LocalDateTime partitionTime(Session session) {
+        return session.getStartTime();
+    }
+
+    @Override
+    public List<Session> findByClientId(UUID clientId) {
+        return filter(session -> session.getClientId().equals(clientId));
+    }
+
+    @Override
+    public List<Session> findByStartTimeBetween(LocalDateTime start, LocalDateTime end) {
+        return findBetween(start, end);
+    }
+
+    @Override
+    public Optional<Session> findActiveByClientId(UUID clientId) {
+        return findActive(activeIndex.findByClient(clientId)).stream().findFirst();
+    }
+
+    @Override
+    public Optional<Session> findActiveByComputerId(UUID computerId) {
+        return findActive(activeIndex.findByComputer(computerId)).stream().findFirst();
+    }
+
+    @Override
+    public List<Session> findActive() {
+        return findActive(activeIndex.findAll());
+    }
+
+    private List<Session> findActive(List<UUID> ids) {
+        List<Session> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            activeIndex.findStartTime(id)
+                  .flatMap(startTime -> findById(id, startTime))
+                  .ifPresent(result::add);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,15 @@
+package storage.query;
+
+import java.util.function.Function;
+
+public record Attribute<T, V>(String name, Function<T, V> getter) {
+
+    public V valueOf(T entity) {
+        return getter.apply(entity);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
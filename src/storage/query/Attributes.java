@@ -0,0 +1,60 @@
+package storage.query;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import models.entities.Admin;
+import models.entities.Client;
+import models.entities.Computer;
+import models.entities.Payment;
+import models.entities.Session;
+import models.enums.ComputerStatus;
+import models.enums.ComputerType;
+import models.enums.PaymentType;
+
+public final class Attributes {
+
+    public static final Attribute<Admin, String> ADMIN_LOGIN =
+          new Attribute<>("login", Admin::getLogin);
+    public static final Attribute<Admin, String> ADMIN_EMAIL =
+          new Attribute<>("email", Admin::getEmail);
+
+    public static final Attribute<Client, String> CLIENT_EMAIL =
+          new Attribute<>("email", Client::getEmail);
+    public static final Attribute<Client, String> CLIENT_NICKNAME =
+          new Attribute<>("nickname", Client::getNickname);
+    public static final Attribute<Client, BigDecimal> CLIENT_BALANCE =
+          new Attribute<>("balance", Client::getBalance);
+    public static final Attribute<Client, BigDecimal> CLIENT_DISCOUNT =
+          new Attribute<>("discountPercent", Client::getDiscountPercent);
+    public static final Attribute<Client, Integer> CLIENT_VISITS =
+          new Attribute<>("visitCount", Client::getVisitCount);
+    public static final Attribute<Client, LocalDateTime> CLIENT_REGISTRATION =
+          new Attribute<>("registrationDate", Client::getRegistrationDate);
+
+    public static final Attribute<Computer, Integer> COMPUTER_NUMBER =
+          new Attribute<>("number", Computer::getNumber);
+    public static final Attribute<Computer, ComputerStatus> COMPUTER_STATUS =
+          new Attribute<>("computerStatus", Computer::getComputerStatus);
+    public static final Attribute<Computer, ComputerType> COMPUTER_TYPE =
+          new Attribute<>("computerType", Computer::getComputerType);
+
+    public static final Attribute<Session, UUID> SESSION_CLIENT =
+          new Attribute<>("clientId", Session::getClientId);
+    public static final Attribute<Session, UUID> SESSION_COMPUTER =
+          new Attribute<>("computerId", Session::getComputerId);
+    public static final Attribute<Session, LocalDateTime> SESSION_START =
+          new Attribute<>("startTime", Session::getStartTime);
+    public static final Attribute<Session, LocalDateTime> SESSION_END =
+          new Attribute<>("endTime", Session::getEndTime);
+
+    public static final Attribute<Payment, UUID> PAYMENT_SESSION =
+          new Attribute<>("sessionId", Payment::getSessionId);
+    public static final Attribute<Payment, LocalDateTime> PAYMENT_TIME =
+          new Attribute<>("paymentTime", Payment::getPaymentTime);
+    public static final Attribute<Payment, PaymentType> PAYMENT_TYPE =
+          new Attribute<>("paymentType", Payment::getPaymentType);
+
+    private Attributes() {
+    }
+}
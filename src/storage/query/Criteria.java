@@ -0,0 +1,116 @@
+package storage.query;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+import storage.index.HashIndex;
+
+public final class Criteria {
+
+    private Criteria() {
+    }
+
+    public static <T, V> Equals<T, V> eq(Attribute<T, V> attribute, V value) {
+        return new Equals<>(attribute, value);
+    }
+
+    public static <T, V extends Comparable<? super V>> Range<T, V> between(
+          Attribute<T, V> attribute, V from, V to) {
+        return new Range<>(attribute, from, to);
+    }
+
+    public static <T, V extends Comparable<? super V>> Range<T, V> atLeast(
+          Attribute<T, V> attribute, V from) {
+        return new Range<>(attribute, from, null);
+    }
+
+    public static <T, V extends Comparable<? super V>> Range<T, V> atMost(
+          Attribute<T, V> attribute, V to) {
+        return new Range<>(attribute, null, to);
+    }
+
+    public static <T> Contains<T> contains(Attribute<T, String> attribute, String needle) {
+        return new Contains<>(attribute, needle);
+    }
+
+    public static <T, V> IsNull<T, V> isNull(Attribute<T, V> attribute) {
+        return new IsNull<>(attribute);
+    }
+
+    public static <T> Specification<T> where(String description, Predicate<T> predicate) {
+        return new Where<>(description, predicate);
+    }
+
+    public record Equals<T, V>(Attribute<T, V> attribute, V value) implements Specification<T> {
+
+        @Override
+        public boolean test(T entity) {
+            return Objects.equals(attribute.valueOf(entity), value);
+        }
+
+        @Override
+        public String toString() {
+            return attribute + " = " + value;
+        }
+    }
+
+    public record Range<T, V extends Comparable<? super V>>(Attribute<T, V> attribute, V from,
+                                                            V to) implements Specification<T> {
+
+        @Override
+        public boolean test(T entity) {
+            V value = attribute.valueOf(entity);
+            return value != null
+                  && (from == null || value.compareTo(from) >= 0)
+                  && (to == null || value.compareTo(to) <= 0);
+        }
+
+        @Override
+        public String toString() {
+            return attribute + " в [" + (from != null ? from : "…") + ", "
+                  + (to != null ? to : "…") + "]";
+        }
+    }
+
+    public record Contains<T>(Attribute<T, String> attribute, String needle) implements
+          Specification<T> {
+
+        @Override
+        public boolean test(T entity) {
+            String value = attribute.valueOf(entity);
+            return value != null && needle != null
+                  && HashIndex.normalize(value).contains(HashIndex.normalize(needle));
+        }
+
+        @Override
+        public String toString() {
+            return attribute + " містить '" + needle + "'";
+        }
+    }
+
+    public record IsNull<T, V>(Attribute<T, V> attribute) implements Specification<T> {
+
+        @Override
+        public boolean test(T entity) {
+            return attribute.valueOf(entity) == null;
+        }
+
+        @Override
+        public String toString() {
+            return attribute + " порожнє";
+        }
+    }
+
+    public record Where<T>(String description, Predicate<T> predicate) implements
+          Specification<T> {
+
+        @Override
+        public boolean test(T entity) {
+            return predicate.test(entity);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+}
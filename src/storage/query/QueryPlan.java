@@ -0,0 +1,18 @@
+package storage.query;
+
+public record QueryPlan(String access, String criterion, int examined, int returned,
+                        long micros) {
+
+    public static final String FULL_SCAN = "повний перегляд";
+
+    public boolean usesIndex() {
+        return !FULL_SCAN.equals(access);
+    }
+
+    @Override
+    public String toString() {
+        String path = usesIndex() ? "індекс " + access + " за умовою " + criterion : access;
+        return String.format("План: %s; переглянуто рядків: %d, повернуто: %d, час: %d мкс",
+              path, examined, returned, micros);
+    }
+}
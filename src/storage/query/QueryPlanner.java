@@ -0,0 +1,83 @@
+package storage.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import storage.index.EntityIndex;
+
+public final class QueryPlanner {
+
+    private static final int SELECTIVE_ENOUGH = 256;
+
+    private QueryPlanner() {
+    }
+
+    public static <T> QueryResult<T> execute(Specification<T> specification,
+          Collection<? extends EntityIndex<T>> indexes, Function<UUID, T> fetch,
+          Supplier<? extends Collection<T>> scan) {
+        long started = System.nanoTime();
+
+        EntityIndex<T> bestIndex = null;
+        Specification<T> bestCriterion = null;
+        Collection<UUID> bestIds = null;
+        List<Specification<T>> criteria = new ArrayList<>(specification.conjuncts());
+        criteria.sort(Comparator.comparingInt(QueryPlanner::priority));
+        for (Specification<T> criterion : criteria) {
+            if (bestIds != null && bestIds.size() <= SELECTIVE_ENOUGH) {
+                break;
+            }
+            for (EntityIndex<T> index : indexes) {
+                Optional<Collection<UUID>> ids = index.lookup(criterion);
+                if (ids.isPresent() && (bestIds == null || ids.get().size() < bestIds.size())) {
+                    bestIndex = index;
+                    bestCriterion = criterion;
+                    bestIds = ids.get();
+                }
+            }
+        }
+
+        List<T> rows = new ArrayList<>();
+        int examined = 0;
+        if (bestIds != null) {
+            for (UUID id : bestIds) {
+                T entity = fetch.apply(id);
+                if (entity != null) {
+                    examined++;
+                    if (specification.test(entity)) {
+                        rows.add(entity);
+                    }
+                }
+            }
+        } else {
+            for (T entity : scan.get()) {
+                examined++;
+                if (specification.test(entity)) {
+                    rows.add(entity);
+                }
+            }
+        }
+
+        long micros = (System.nanoTime() - started) / 1_000;
+        QueryPlan plan = bestIds != null
+              ? new QueryPlan(bestIndex.getClass().getSimpleName(), bestCriterion.toString(),
+                    examined, rows.size(), micros)
+              : new QueryPlan(QueryPlan.FULL_SCAN, specification.toString(), examined,
+                    rows.size(), micros);
+        return new QueryResult<>(rows, plan);
+    }
+
+    private static int priority(Specification<?> criterion) {
+        return switch (criterion) {
+            case Criteria.Equals<?, ?> ignored -> 0;
+            case Criteria.IsNull<?, ?> ignored -> 1;
+            case Criteria.Range<?, ?> ignored -> 2;
+            case Criteria.Contains<?> ignored -> 3;
+            default -> 4;
+        };
+    }
+}
@@ -0,0 +1,6 @@
+package storage.query;
+
+import java.util.List;
+
+public record QueryResult<T>(List<T> rows, QueryPlan plan) {
+}
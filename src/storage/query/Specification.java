@@ -0,0 +1,46 @@
+package storage.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public interface Specification<T> {
+
+    boolean test(T entity);
+
+    default List<Specification<T>> conjuncts() {
+        return List.of(this);
+    }
+
+    default Specification<T> and(Specification<T> other) {
+        List<Specification<T>> parts = new ArrayList<>(conjuncts());
+        parts.addAll(other.conjuncts());
+        return new And<>(List.copyOf(parts));
+    }
+
+    record And<T>(List<Specification<T>> parts) implements Specification<T> {
+
+        @Override
+        public boolean test(T entity) {
+            for (Specification<T> part : parts) {
+                if (!part.test(entity)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public List<Specification<T>> conjuncts() {
+            return parts;
+        }
+
+        @Override
+        public String toString() {
+            List<String> described = new ArrayList<>();
+            for (Specification<T> part : parts) {
+                described.add(part.toString());
+            }
+            return String.join(" і ", described);
+        }
+    }
+}
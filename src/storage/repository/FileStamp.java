@@ -0,0 +1,63 @@
+package storage.repository;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+public record FileStamp(Object fileKey, long size, FileTime lastModified) {
+
+    public static FileStamp of(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new FileStamp(attributes.fileKey(), attributes.size(),
+                  attributes.lastModifiedTime());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public static void writeAll(DataOutput out, List<FileStamp> stamps) throws IOException {
+        out.writeInt(stamps.size());
+        for (FileStamp stamp : stamps) {
+            out.writeUTF(stamp != null ? String.valueOf(stamp.fileKey()) : "");
+            out.writeLong(stamp != null ? stamp.size() : -1);
+            out.writeLong(stamp != null ? stamp.lastModified().to(TimeUnit.NANOSECONDS) : -1);
+        }
+    }
+
+    public static List<FileStamp> readAll(DataInput in) throws IOException {
+        int count = in.readInt();
+        List<FileStamp> stamps = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String fileKey = in.readUTF();
+            long size = in.readLong();
+            long modified = in.readLong();
+            stamps.add(new FileStamp(fileKey, size, FileTime.from(modified, TimeUnit.NANOSECONDS)));
+        }
+        return stamps;
+    }
+
+    public static boolean matches(List<FileStamp> stored, List<FileStamp> current) {
+        if (stored.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < stored.size(); i++) {
+            FileStamp left = stored.get(i);
+            FileStamp right = current.get(i);
+            if (right == null || left.size() != right.size()
+                  || !left.lastModified().equals(right.lastModified())
+                  || !Objects.equals(left.fileKey(), String.valueOf(right.fileKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
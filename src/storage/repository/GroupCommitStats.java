@@ -0,0 +1,71 @@
+package storage.repository;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GroupCommitStats {
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder fsyncs = new LongAdder();
+    private final LongAdder fsyncNanos = new LongAdder();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+    private final AtomicLong maxFsyncNanos = new AtomicLong();
+
+    void recordBatch(int size) {
+        batches.increment();
+        writes.add(size);
+        maxBatchSize.accumulateAndGet(size, Math::max);
+    }
+
+    void recordFsync(long nanos) {
+        fsyncs.increment();
+        fsyncNanos.add(nanos);
+        maxFsyncNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    public long getWrites() {
+        return writes.sum();
+    }
+
+    public long getFsyncs() {
+        return fsyncs.sum();
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    public double getAverageBatchSize() {
+        long batchCount = getBatches();
+        return batchCount == 0 ? 0.0 : (double) getWrites() / batchCount;
+    }
+
+    public double getAverageFsyncMillis() {
+        long fsyncCount = getFsyncs();
+        return fsyncCount == 0 ? 0.0 : fsyncNanos.sum() / 1_000_000.0 / fsyncCount;
+    }
+
+    public double getMaxFsyncMillis() {
+        return maxFsyncNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+              "Batches: %d, Writes: %d, Avg batch: %.2f, Max batch: %d, "
+                    + "Fsyncs: %d, Avg fsync: %.3f ms, Max fsync: %.3f ms",
+              getBatches(),
+              getWrites(),
+              getAverageBatchSize(),
+              getMaxBatchSize(),
+              getFsyncs(),
+              getAverageFsyncMillis(),
+              getMaxFsyncMillis()
+        );
+    }
+}
@@ -0,0 +1,253 @@
+package storage.repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class GroupCommitWriter implements AutoCloseable {
+
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(2);
+
+    private static GroupCommitWriter shared;
+
+    private final long windowNanos;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final GroupCommitStats stats = new GroupCommitStats();
+    private final Map<Path, FileStamp> ownWrites = new ConcurrentHashMap<>();
+    private final Object submitLock = new Object();
+    private final Thread committer;
+
+    private volatile boolean closed;
+    private int lastBatchSize;
+
+    public GroupCommitWriter(Duration window) {
+        this.windowNanos = window.toNanos();
+        this.committer = new Thread(this::run, "group-commit-writer");
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    public static synchronized GroupCommitWriter shared() {
+        if (shared == null) {
+            shared = new GroupCommitWriter(DEFAULT_WINDOW);
+        }
+        return shared;
+    }
+
+    public void replace(Path target, byte[] content) {
+        await(submitReplace(target, content), target);
+    }
+
+    public void append(Path target, byte[] content) {
+        await(submitAppend(target, content), target);
+    }
+
+    public CompletableFuture<Void> submitReplace(Path target, byte[] content) {
+        return submit(new PendingWrite(target, content, false));
+    }
+
+    public CompletableFuture<Void> submitAppend(Path target, byte[] content) {
+        return submit(new PendingWrite(target, content, true));
+    }
+
+    private CompletableFuture<Void> submit(PendingWrite write) {
+        synchronized (submitLock) {
+            if (closed) {
+                throw new IllegalStateException("Запис у сховище вже завершено");
+            }
+            queue.add(write);
+        }
+        return write.done;
+    }
+
+    public static void await(CompletableFuture<Void> future, Path target) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            throw new IllegalArgumentException("Помилка запису в файл: " + target, e.getCause());
+        }
+    }
+
+    private void run() {
+        while (!closed || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    commit(collectBatch(first));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<PendingWrite> collectBatch(PendingWrite first) throws InterruptedException {
+        List<PendingWrite> batch = new ArrayList<>();
+        batch.add(first);
+        long deadline = System.nanoTime() + windowNanos;
+        long remaining;
+        boolean concurrent = lastBatchSize > 1 || !queue.isEmpty();
+        while (concurrent && (remaining = deadline - System.nanoTime()) > 0) {
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        queue.drainTo(batch);
+        lastBatchSize = batch.size();
+        return batch;
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        stats.recordBatch(batch.size());
+
+        Map<Path, TargetWrite> targets = new LinkedHashMap<>();
+        for (PendingWrite write : batch) {
+            targets.computeIfAbsent(write.target, TargetWrite::new).add(write);
+        }
+
+        for (TargetWrite target : targets.values()) {
+            try {
+                if (target.replace) {
+                    replaceAtomically(target.path, target.content.toByteArray());
+                } else {
+                    appendDurably(target.path, target.content.toByteArray());
+                }
+                recordOwnWrite(target.path);
+                target.writes.forEach(write -> write.done.complete(null));
+            } catch (IOException | RuntimeException e) {
+                target.writes.forEach(write -> write.done.completeExceptionally(e));
+            }
+        }
+    }
+
+    private void replaceAtomically(Path target, byte[] content) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, content);
+            force(channel);
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE,
+                  StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(directory);
+    }
+
+    private void appendDurably(Path target, byte[] content) throws IOException {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            writeFully(channel, content);
+            force(channel);
+        }
+    }
+
+    private void writeFully(FileChannel channel, byte[] content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void force(FileChannel channel) throws IOException {
+        long started = System.nanoTime();
+        channel.force(true);
+        stats.recordFsync(System.nanoTime() - started);
+    }
+
+    private void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+            // Not every platform allows opening a directory for fsync.
+        }
+    }
+
+    private void recordOwnWrite(Path target) {
+        FileStamp stamp = FileStamp.of(target);
+        if (stamp != null) {
+            ownWrites.put(target.toAbsolutePath().normalize(), stamp);
+        }
+    }
+
+    public boolean isOwnWrite(Path target) {
+        FileStamp recorded = ownWrites.get(target.toAbsolutePath().normalize());
+        return recorded != null && recorded.equals(FileStamp.of(target));
+    }
+
+    public GroupCommitStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        synchronized (submitLock) {
+            closed = true;
+        }
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingWrite> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        IllegalStateException failure =
+              new IllegalStateException("Запис у сховище вже завершено");
+        abandoned.forEach(write -> write.done.completeExceptionally(failure));
+    }
+
+    private record PendingWrite(Path target, byte[] content, boolean append,
+                                CompletableFuture<Void> done) {
+
+        private PendingWrite(Path target, byte[] content, boolean append) {
+            this(target, content, append, new CompletableFuture<>());
+        }
+    }
+
+    private static class TargetWrite {
+
+        private final Path path;
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final List<PendingWrite> writes = new ArrayList<>();
+        private boolean replace;
+
+        private TargetWrite(Path path) {
+            this.path = path;
+        }
+
+        private void add(PendingWrite write) {
+            if (!write.append) {
+                content.reset();
+                replace = true;
+            }
+            content.writeBytes(write.content);
+            writes.add(write);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package storage.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import storage.contracts.EntityStore;
+import storage.util.GsonFactory;
+
+public class JsonFileStore<T> implements EntityStore<T> {
+
+    private final String filePath;
+    private final Class<T> entityType;
+    private final Type listType;
+    private final Gson gson;
+    private final GroupCommitWriter writer;
+
+    public JsonFileStore(String filePath, Class<T> entityType) {
+        this(filePath, entityType, GroupCommitWriter.shared());
+    }
+
+    public JsonFileStore(String filePath, Class<T> entityType, GroupCommitWriter writer) {
+        this.filePath = filePath;
+        this.writer = writer;
+        this.entityType = entityType;
+        this.listType = TypeToken.getParameterized(List.class, entityType).getType();
+        this.gson = GsonFactory.builder().setPrettyPrinting().create();
+        ensureFileExists();
+    }
+
+    private void ensureFileExists() {
+        File file = new File(filePath);
+        if (!file.exists()) {
+            try {
+                file.getParentFile().mkdirs();
+                try (FileWriter writer = new FileWriter(file)) {
+                    writer.write("[]");
+                }
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Не вдалося створити файл: " + filePath, e);
+            }
+        }
+    }
+
+    @Override
+    public List<T> loadAll() {
+        try (Reader reader = new FileReader(filePath)) {
+            List<T> entities = gson.fromJson(reader, listType);
+            return entities != null ? entities : new ArrayList<>();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка читання з файлу: " + filePath, e);
+        }
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return JsonStreams.open(filePath, gson, entityType);
+    }
+
+    @Override
+    public void writeAll(Collection<T> entities) {
+        GroupCommitWriter.await(submitAll(entities), Path.of(filePath));
+    }
+
+    @Override
+    public CompletableFuture<Void> submitAll(Collection<T> entities) {
+        return writer.submitReplace(Path.of(filePath), encode(entities));
+    }
+
+    @Override
+    public int sizeOf(T entity) {
+        return gson.toJson(entity).getBytes(StandardCharsets.UTF_8).length + 1;
+    }
+
+    public byte[] encode(Collection<T> entities) {
+        return gson.toJson(entities, listType).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getLocation() {
+        return filePath;
+    }
+}
@@ -0,0 +1,158 @@
+package storage.repository;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import models.util.Entity;
+import storage.contracts.Repository;
+import storage.contracts.StaleEntityException;
+
+public abstract class JsonRepository<T extends Entity> implements Repository<T> {
+
+    private final JsonFileStore<T> store;
+
+    private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+
+    protected JsonRepository(String filePath, Class<T> entityType, GroupCommitWriter writer) {
+        this.store = new JsonFileStore<>(filePath, entityType, writer);
+    }
+
+    protected abstract String notFoundMessage(UUID id);
+
+    @Override
+    public synchronized T save(T entity) {
+        awaitPending();
+        List<T> entities = store.loadAll();
+        entities.add(entity);
+        store.writeAll(entities);
+        return entity;
+    }
+
+    @Override
+    public synchronized T update(T entity) {
+        awaitPending();
+        List<T> entities = store.loadAll();
+        for (int i = 0; i < entities.size(); i++) {
+            T current = entities.get(i);
+            if (current.getId().equals(entity.getId())) {
+                StaleEntityException.check(current, entity);
+                entity.setVersion(current.getVersion() + 1);
+                entities.set(i, entity);
+                try {
+                    store.writeAll(entities);
+                } catch (RuntimeException e) {
+                    entity.setVersion(current.getVersion());
+                    throw e;
+                }
+                return entity;
+            }
+        }
+
+        throw new IllegalArgumentException(notFoundMessage(entity.getId()));
+    }
+
+    @Override
+    public synchronized void delete(UUID id) {
+        awaitPending();
+        List<T> entities = store.loadAll();
+        entities.removeIf(entity -> entity.getId().equals(id));
+        store.writeAll(entities);
+    }
+
+    @Override
+    public void applyChanges(Collection<T> created, Collection<T> updated,
+          Collection<UUID> deleted) {
+        GroupCommitWriter.await(submitChanges(created, updated, deleted),
+              Path.of(store.getLocation()));
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> submitChanges(Collection<T> created,
+          Collection<T> updated, Collection<UUID> deleted) {
+        if (created.isEmpty() && updated.isEmpty() && deleted.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        awaitPending();
+        Map<UUID, T> entities = new LinkedHashMap<>();
+        for (T entity : store.loadAll()) {
+            entities.put(entity.getId(), entity);
+        }
+        for (T entity : updated) {
+            T current = entities.get(entity.getId());
+            if (current == null) {
+                throw new IllegalArgumentException(notFoundMessage(entity.getId()));
+            }
+            StaleEntityException.check(current, entity);
+        }
+        for (T entity : created) {
+            entities.put(entity.getId(), entity);
+        }
+        for (T entity : updated) {
+            entity.setVersion(entity.getVersion() + 1);
+            entities.put(entity.getId(), entity);
+        }
+        for (UUID id : deleted) {
+            entities.remove(id);
+        }
+        try {
+            pending = store.submitAll(entities.values()).whenComplete((ignored, failure) -> {
+                if (failure != null) {
+                    rewind(updated);
+                }
+            });
+        } catch (RuntimeException e) {
+            rewind(updated);
+            throw e;
+        }
+        return pending;
+    }
+
+    private void rewind(Collection<T> updated) {
+        for (T entity : updated) {
+            entity.setVersion(entity.getVersion() - 1);
+        }
+    }
+
+    private void awaitPending() {
+        pending.exceptionally(ignored -> null).join();
+    }
+
+    @Override
+    public Optional<T> findById(UUID id) {
+        return findFirst(entity -> entity.getId().equals(id));
+    }
+
+    @Override
+    public List<T> findAll() {
+        return store.loadAll();
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return store.stream();
+    }
+
+    protected Optional<T> findFirst(Predicate<T> predicate) {
+        try (Stream<T> entities = stream()) {
+            return entities.filter(predicate).findFirst();
+        }
+    }
+
+    protected List<T> filter(Predicate<T> predicate) {
+        try (Stream<T> entities = stream()) {
+            return entities.filter(predicate).collect(Collectors.toList());
+        }
+    }
+
+    public JsonFileStore<T> getStore() {
+        return store;
+    }
+}
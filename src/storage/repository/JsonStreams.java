@@ -0,0 +1,78 @@
+package storage.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.EOFException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+final class JsonStreams {
+
+    private JsonStreams() {
+    }
+
+    static <T> Stream<T> open(String filePath, Gson gson, Class<T> entityType) {
+        JsonReader reader = null;
+        try {
+            reader = new JsonReader(new FileReader(filePath));
+            if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                reader.close();
+                return Stream.empty();
+            }
+            reader.beginArray();
+        } catch (EOFException e) {
+            closeQuietly(reader);
+            return Stream.empty();
+        } catch (IOException e) {
+            closeQuietly(reader);
+            throw new IllegalArgumentException("Помилка читання з файлу: " + filePath, e);
+        }
+
+        return stream(reader, filePath, gson, entityType);
+    }
+
+    private static <T> Stream<T> stream(JsonReader reader, String filePath, Gson gson,
+          Class<T> entityType) {
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+              Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!reader.hasNext()) {
+                        return false;
+                    }
+                    action.accept(gson.fromJson(reader, entityType));
+                    return true;
+                } catch (IOException | JsonParseException e) {
+                    throw new IllegalArgumentException("Помилка читання з файлу: " + filePath, e);
+                }
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static void closeQuietly(JsonReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package storage.uow;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import models.util.Entity;
+import storage.contracts.Repository;
+
+public class IdentityMap {
+
+    private final Map<Repository<?>, Map<UUID, Entity>> entities = new HashMap<>();
+
+    private int loads;
+    private int savedLookups;
+
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Optional<T> find(Repository<T> repository, UUID id) {
+        Map<UUID, Entity> loaded = entries(repository);
+        Entity known = loaded.get(id);
+        if (known != null) {
+            savedLookups++;
+            return Optional.of((T) known);
+        }
+        loads++;
+        Optional<T> found = repository.findById(id);
+        found.ifPresent(entity -> loaded.put(id, entity));
+        return found;
+    }
+
+    public <T extends Entity> void put(Repository<T> repository, T entity) {
+        entries(repository).put(entity.getId(), entity);
+    }
+
+    public <T extends Entity> void remove(Repository<T> repository, UUID id) {
+        entries(repository).remove(id);
+    }
+
+    private Map<UUID, Entity> entries(Repository<?> repository) {
+        return entities.computeIfAbsent(repository, ignored -> new HashMap<>());
+    }
+
+    public void clear() {
+        entities.clear();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<UUID, Entity> loaded : entities.values()) {
+            size += loaded.size();
+        }
+        return size;
+    }
+
+    public int getLoads() {
+        return loads;
+    }
+
+    public int getSavedLookups() {
+        return savedLookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+              "Мапа ідентичності: об'єктів %d, завантажень %d, збережено звернень %d", size(),
+              loads, savedLookups);
+    }
+}
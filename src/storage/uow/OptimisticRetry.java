@@ -0,0 +1,50 @@
+package storage.uow;
+
+import java.util.function.Supplier;
+import storage.contracts.StaleEntityException;
+
+public final class OptimisticRetry {
+
+    public static final int DEFAULT_ATTEMPTS = 3;
+
+    private OptimisticRetry() {
+    }
+
+    public static void run(Runnable operation) {
+        call(DEFAULT_ATTEMPTS, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    public static <R> R call(Supplier<R> operation) {
+        return call(DEFAULT_ATTEMPTS, operation);
+    }
+
+    public static <R> R call(int attempts, Supplier<R> operation) {
+        if (attempts < 1) {
+            throw new IllegalArgumentException("Кількість спроб повинна бути додатною");
+        }
+        StaleEntityException conflict = null;
+        for (int attempt = 0; attempt < attempts; attempt++) {
+            try {
+                return operation.get();
+            } catch (RuntimeException e) {
+                conflict = staleCause(e);
+                if (conflict == null) {
+                    throw e;
+                }
+            }
+        }
+        throw conflict;
+    }
+
+    private static StaleEntityException staleCause(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof StaleEntityException stale) {
+                return stale;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,213 @@
+package storage.uow;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import models.util.Entity;
+import storage.contracts.Repository;
+import storage.contracts.StaleEntityException;
+
+public class Transaction {
+
+    private final Map<Repository<?>, Participant<?>> participants = new LinkedHashMap<>();
+    private final IdentityMap identityMap = new IdentityMap();
+    private final TransactionLog log;
+
+    private boolean pendingRecovery;
+
+    public Transaction(TransactionLog log) {
+        this.log = log;
+    }
+
+    public <T extends Entity> Optional<T> find(Repository<T> repository, UUID id) {
+        return identityMap.find(repository, id);
+    }
+
+    public <T extends Entity> void registerNew(Repository<T> repository, T entity) {
+        participant(repository).unit.registerNew(entity);
+        identityMap.put(repository, entity);
+    }
+
+    public <T extends Entity> void registerDirty(Repository<T> repository, T entity) {
+        participant(repository).unit.registerDirty(entity);
+        identityMap.put(repository, entity);
+    }
+
+    public <T extends Entity> void registerDeleted(Repository<T> repository, T entity) {
+        participant(repository).unit.registerDeleted(entity);
+        identityMap.remove(repository, entity.getId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Entity> Participant<T> participant(Repository<T> repository) {
+        return (Participant<T>) participants.computeIfAbsent(repository,
+              ignored -> new Participant<>(repository));
+    }
+
+    public void commit() {
+        List<Participant<?>> prepared = new ArrayList<>();
+        List<TransactionLog.Change<?>> changes = new ArrayList<>();
+        UUID id;
+        try {
+            for (Participant<?> participant : participants.values()) {
+                if (participant.unit.hasChanges()) {
+                    changes.add(participant.prepare());
+                    prepared.add(participant);
+                }
+            }
+            if (prepared.isEmpty()) {
+                clearUnits();
+                return;
+            }
+            id = log.begin(changes);
+        } catch (RuntimeException e) {
+            rollback();
+            throw new RuntimeException("Помилка при збереженні змін", e);
+        }
+
+        Throwable failure = null;
+        List<Participant<?>> submitted = new ArrayList<>();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (Participant<?> participant : prepared) {
+            try {
+                pending.add(participant.submit());
+                submitted.add(participant);
+            } catch (RuntimeException e) {
+                failure = e;
+                break;
+            }
+        }
+
+        List<Participant<?>> committed = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                pending.get(i).join();
+                committed.add(submitted.get(i));
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+
+        if (failure != null) {
+            List<RuntimeException> unrecovered = compensate(committed);
+            RuntimeException error;
+            if (unrecovered.isEmpty()) {
+                log.abort(id);
+                error = new RuntimeException("Помилка при збереженні змін", failure);
+            } else {
+                pendingRecovery = true;
+                error = new RuntimeException(
+                      "Помилка при збереженні змін, їх буде завершено під час наступного запуску",
+                      failure);
+                unrecovered.forEach(error::addSuppressed);
+            }
+            rollback();
+            throw error;
+        }
+        clearUnits();
+        try {
+            log.complete(id);
+        } catch (RuntimeException e) {
+            pendingRecovery = true;
+        }
+    }
+
+    private List<RuntimeException> compensate(List<Participant<?>> committed) {
+        List<RuntimeException> failures = new ArrayList<>();
+        for (int i = committed.size() - 1; i >= 0; i--) {
+            try {
+                committed.get(i).compensate();
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        }
+        return failures;
+    }
+
+    public void rollback() {
+        clearUnits();
+        identityMap.clear();
+    }
+
+    private void clearUnits() {
+        for (Participant<?> participant : participants.values()) {
+            participant.unit.clear();
+        }
+    }
+
+    public IdentityMap getIdentityMap() {
+        return identityMap;
+    }
+
+    public boolean isPendingRecovery() {
+        return pendingRecovery;
+    }
+
+    public boolean hasChanges() {
+        for (Participant<?> participant : participants.values()) {
+            if (participant.unit.hasChanges()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Participant<T extends Entity> {
+
+        private final Repository<T> repository;
+        private final UnitOfWork<T, UUID> unit;
+        private final List<T> restored = new ArrayList<>();
+        private final List<T> recreated = new ArrayList<>();
+        private final List<UUID> created = new ArrayList<>();
+
+        private Participant(Repository<T> repository) {
+            this.repository = repository;
+            this.unit = new UnitOfWork<>(repository, Entity::getId);
+        }
+
+        private TransactionLog.Change<T> prepare() {
+            restored.clear();
+            recreated.clear();
+            created.clear();
+            for (T entity : unit.getDirtyEntities()) {
+                Optional<T> current = repository.findById(entity.getId());
+                if (current.isPresent()) {
+                    StaleEntityException.check(current.get(), entity);
+                    restored.add(current.get());
+                }
+            }
+            Map<UUID, Long> deleted = new LinkedHashMap<>();
+            for (UUID id : unit.getDeletedUuids()) {
+                repository.findById(id).ifPresent(current -> {
+                    recreated.add(current);
+                    deleted.put(id, current.getVersion());
+                });
+            }
+            for (T entity : unit.getNewEntities()) {
+                created.add(entity.getId());
+            }
+            return new TransactionLog.Change<>(repository, unit.getNewEntities(),
+                  unit.getDirtyEntities(), deleted);
+        }
+
+        private CompletableFuture<Void> submit() {
+            return repository.submitChanges(unit.getNewEntities(), unit.getDirtyEntities(),
+                  unit.getDeletedUuids());
+        }
+
+        private void compensate() {
+            for (T entity : restored) {
+                repository.findById(entity.getId())
+                      .ifPresent(current -> entity.setVersion(current.getVersion()));
+            }
+            repository.applyChanges(recreated, restored, created);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package storage.uow;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import models.util.Entity;
+import storage.contracts.Repository;
+import storage.repository.GroupCommitWriter;
+import storage.util.GsonFactory;
+
+public class TransactionLog {
+
+    private static final String BEGIN = "BEGIN";
+    private static final String DONE = "DONE";
+    private static final String ABORT = "ABORT";
+    private static final int COMPACT_THRESHOLD = 1000;
+
+    private final Path file;
+    private final GroupCommitWriter writer;
+    private final Gson gson = GsonFactory.builder().create();
+    private final Map<String, Participant<?>> byName = new LinkedHashMap<>();
+    private final Map<Repository<?>, Participant<?>> byRepository = new IdentityHashMap<>();
+    private final Set<UUID> inFlight = new HashSet<>();
+    private final List<UUID> skipped = new ArrayList<>();
+
+    private int records;
+
+    public TransactionLog(Path file, GroupCommitWriter writer) {
+        this.file = file;
+        this.writer = writer;
+    }
+
+    public synchronized <T extends Entity> void register(String name, Repository<T> repository,
+          Class<T> entityType) {
+        Participant<T> participant = new Participant<>(name, repository, entityType);
+        byName.put(name, participant);
+        byRepository.put(repository, participant);
+    }
+
+    UUID begin(List<Change<?>> changes) {
+        UUID id = UUID.randomUUID();
+        JsonObject record = record(id, BEGIN);
+        JsonArray serialized = new JsonArray();
+        for (Change<?> change : changes) {
+            serialized.add(serialize(change));
+        }
+        record.add("changes", serialized);
+
+        synchronized (this) {
+            inFlight.add(id);
+        }
+        try {
+            append(record);
+        } catch (RuntimeException e) {
+            finish(id);
+            throw e;
+        }
+        return id;
+    }
+
+    void complete(UUID id) {
+        append(record(id, DONE));
+        finish(id);
+    }
+
+    void abort(UUID id) {
+        append(record(id, ABORT));
+        finish(id);
+    }
+
+    private synchronized void finish(UUID id) {
+        inFlight.remove(id);
+        if (inFlight.isEmpty() && records >= COMPACT_THRESHOLD) {
+            truncate();
+        }
+    }
+
+    private <T extends Entity> JsonObject serialize(Change<T> change) {
+        Participant<T> participant = participant(change.repository());
+        JsonObject serialized = new JsonObject();
+        Type listType = TypeToken.getParameterized(List.class, participant.entityType()).getType();
+        serialized.addProperty("repository", participant.name());
+        serialized.add("created", gson.toJsonTree(change.created(), listType));
+        serialized.add("updated", gson.toJsonTree(change.updated(), listType));
+        JsonArray deleted = new JsonArray();
+        for (Map.Entry<UUID, Long> entry : change.deleted().entrySet()) {
+            JsonObject removal = new JsonObject();
+            removal.addProperty("id", entry.getKey().toString());
+            removal.addProperty("version", entry.getValue());
+            deleted.add(removal);
+        }
+        serialized.add("deleted", deleted);
+        return serialized;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized <T extends Entity> Participant<T> participant(Repository<T> repository) {
+        Participant<?> participant = byRepository.get(repository);
+        if (participant == null) {
+            throw new IllegalArgumentException("Репозиторій не зареєстровано в журналі транзакцій");
+        }
+        return (Participant<T>) participant;
+    }
+
+    private JsonObject record(UUID id, String state) {
+        JsonObject record = new JsonObject();
+        record.addProperty("tx", id.toString());
+        record.addProperty("state", state);
+        return record;
+    }
+
+    private void append(JsonObject record) {
+        writer.append(file, (gson.toJson(record) + "\n").getBytes(StandardCharsets.UTF_8));
+        synchronized (this) {
+            records++;
+        }
+    }
+
+    public synchronized int recover() {
+        skipped.clear();
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        Map<String, JsonObject> pending = new LinkedHashMap<>();
+        for (JsonObject record : readRecords()) {
+            String id = record.get("tx").getAsString();
+            if (BEGIN.equals(record.get("state").getAsString())) {
+                pending.put(id, record);
+            } else {
+                pending.remove(id);
+            }
+        }
+
+        int replayed = 0;
+        for (JsonObject intent : pending.values()) {
+            if (redo(intent)) {
+                replayed++;
+            }
+        }
+        truncate();
+        return replayed;
+    }
+
+    private List<JsonObject> readRecords() {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Помилка читання журналу транзакцій: " + file, e);
+        }
+        List<JsonObject> result = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                JsonObject record = gson.fromJson(line, JsonObject.class);
+                if (record == null || !record.has("tx") || !record.has("state")) {
+                    throw new JsonParseException("Запис без ідентифікатора або стану");
+                }
+                result.add(record);
+            } catch (JsonParseException | IllegalStateException e) {
+                if (i == lines.size() - 1) {
+                    break;
+                }
+                throw new IllegalArgumentException(
+                      "Пошкоджений запис журналу транзакцій " + file + " у рядку " + (i + 1), e);
+            }
+        }
+        return result;
+    }
+
+    private boolean redo(JsonObject intent) {
+        List<Replay<?>> replays = new ArrayList<>();
+        for (JsonElement element : intent.getAsJsonArray("changes")) {
+            JsonObject change = element.getAsJsonObject();
+            String name = change.get("repository").getAsString();
+            Participant<?> participant = byName.get(name);
+            if (participant == null) {
+                throw new IllegalArgumentException(
+                      "Журнал транзакцій посилається на невідомий репозиторій: " + name);
+            }
+            replays.add(participant.replay(change, gson));
+        }
+
+        for (Replay<?> replay : replays) {
+            if (replay.isSuperseded()) {
+                skipped.add(UUID.fromString(intent.get("tx").getAsString()));
+                return false;
+            }
+        }
+        boolean applied = false;
+        for (Replay<?> replay : replays) {
+            applied |= replay.apply();
+        }
+        return applied;
+    }
+
+    private void truncate() {
+        writer.replace(file, new byte[0]);
+        records = 0;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public synchronized List<UUID> getSkipped() {
+        return List.copyOf(skipped);
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight.size();
+    }
+
+    record Change<T extends Entity>(Repository<T> repository, List<T> created, List<T> updated,
+                                    Map<UUID, Long> deleted) {
+    }
+
+    private record Participant<T extends Entity>(String name, Repository<T> repository,
+                                                 Class<T> entityType) {
+
+        private Replay<T> replay(JsonObject change, Gson gson) {
+            Replay<T> replay = new Replay<>(repository);
+            for (JsonElement element : change.getAsJsonArray("created")) {
+                T entity = gson.fromJson(element, entityType);
+                if (repository.findById(entity.getId()).isEmpty()) {
+                    replay.created.add(entity);
+                }
+            }
+            for (JsonElement element : change.getAsJsonArray("updated")) {
+                T entity = gson.fromJson(element, entityType);
+                Optional<T> current = repository.findById(entity.getId());
+                long version = entity.getVersion();
+                if (current.isEmpty() || current.get().getVersion() > version + 1) {
+                    replay.superseded = true;
+                } else if (current.get().getVersion() == version) {
+                    replay.updated.add(entity);
+                }
+            }
+            for (JsonElement element : change.getAsJsonArray("deleted")) {
+                JsonObject removal = element.getAsJsonObject();
+                UUID id = UUID.fromString(removal.get("id").getAsString());
+                Optional<T> current = repository.findById(id);
+                if (current.isPresent()) {
+                    if (current.get().getVersion() == removal.get("version").getAsLong()) {
+                        replay.deleted.add(id);
+                    } else {
+                        replay.superseded = true;
+                    }
+                }
+            }
+            return replay;
+        }
+    }
+
+    private static class Replay<T extends Entity> {
+
+        private final Repository<T> repository;
+        private final List<T> created = new ArrayList<>();
+        private final List<T> updated = new ArrayList<>();
+        private final List<UUID> deleted = new ArrayList<>();
+
+        private boolean superseded;
+
+        private Replay(Repository<T> repository) {
+            this.repository = repository;
+        }
+
+        private boolean isSuperseded() {
+            return superseded;
+        }
+
+        private boolean apply() {
+            if (created.isEmpty() && updated.isEmpty() && deleted.isEmpty()) {
+                return false;
+            }
+            repository.applyChanges(created, updated, deleted);
+            return true;
+        }
+    }
+}
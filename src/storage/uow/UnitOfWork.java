@@ -1,6 +1,8 @@
 package storage.uow;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
@@ -45,17 +47,7 @@ public class UnitOfWork<T, ID> {
 
     public void commit() {
         try {
-            for (T entity : newEntities) {
-                repository.save(entity);
-            }
-
-            for (T entity : dirtyEntities) {
-                repository.update(entity);
-            }
-
-            for (ID id : deletedIds) {
-                repository.delete((UUID) id);
-            }
+            repository.applyChanges(getNewEntities(), getDirtyEntities(), getDeletedUuids());
 
             clear();
         } catch (Exception e) {
@@ -64,6 +56,22 @@ public class UnitOfWork<T, ID> {
         }
     }
 
+    List<T> getNewEntities() {
+        return List.copyOf(newEntities);
+    }
+
+    List<T> getDirtyEntities() {
+        return List.copyOf(dirtyEntities);
+    }
+
+    List<UUID> getDeletedUuids() {
+        List<UUID> deleted = new ArrayList<>(deletedIds.size());
+        for (ID id : deletedIds) {
+            deleted.add((UUID) id);
+        }
+        return deleted;
+    }
+
     public void rollback() {
         clear();
     }
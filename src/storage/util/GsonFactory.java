@@ -0,0 +1,19 @@
+package storage.util;
+
+import com.google.gson.GsonBuilder;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public class GsonFactory {
+
+    private GsonFactory() {
+    }
+
+    public static GsonBuilder builder() {
+        return new GsonBuilder()
+              .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+              .registerTypeAdapter(LocalTime.class, new LocalTimeAdapter())
+              .registerTypeAdapter(UUID.class, new UUIDAdapter());
+    }
+}
@@ -0,0 +1,205 @@
+package storage.watch;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import storage.contracts.Reloadable;
+import storage.repository.FileStamp;
+import storage.repository.GroupCommitWriter;
+
+public class DataFileWatcher implements AutoCloseable {
+
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(250);
+    public static final int MAX_FAILED_ATTEMPTS = 5;
+
+    private final WatchService watchService;
+    private final GroupCommitWriter writer;
+    private final long debounceMillis;
+    private final Map<Path, Reloadable> targets = new ConcurrentHashMap<>();
+    private final Map<Path, FileStamp> known = new ConcurrentHashMap<>();
+    private final Map<Reloadable, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+    private final Map<Reloadable, Integer> failedAttempts = new ConcurrentHashMap<>();
+    private final Set<Reloadable> stale = ConcurrentHashMap.newKeySet();
+    private final Set<Path> directories = new HashSet<>();
+    private final ScheduledExecutorService scheduler;
+    private final Thread poller;
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder ignoredOwnWrites = new LongAdder();
+    private final LongAdder deferredReloads = new LongAdder();
+    private final LongAdder failedReloads = new LongAdder();
+
+    private volatile boolean closed;
+    private volatile RuntimeException lastFailure;
+
+    public DataFileWatcher(GroupCommitWriter writer, Duration debounce) {
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Не вдалося запустити спостереження за файлами", e);
+        }
+        this.writer = writer;
+        this.debounceMillis = debounce.toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "data-file-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.poller = new Thread(this::poll, "data-file-watcher");
+        this.poller.setDaemon(true);
+        this.poller.start();
+    }
+
+    public synchronized void register(Reloadable repository) {
+        for (Path file : repository.getWatchedFiles()) {
+            Path normalized = file.toAbsolutePath().normalize();
+            Path directory = normalized.getParent();
+            if (directories.add(directory)) {
+                try {
+                    directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                          StandardWatchEventKinds.ENTRY_MODIFY);
+                } catch (IOException e) {
+                    throw new IllegalArgumentException(
+                          "Не вдалося спостерігати за каталогом: " + directory, e);
+                }
+            }
+            targets.put(normalized, repository);
+            remember(normalized);
+        }
+    }
+
+    private void poll() {
+        while (!closed) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Path directory = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    targets.values().forEach(this::schedule);
+                    continue;
+                }
+                Path file = directory.resolve((Path) event.context());
+                Reloadable repository = targets.get(file);
+                if (repository != null) {
+                    schedule(repository);
+                }
+            }
+            key.reset();
+        }
+    }
+
+    private void schedule(Reloadable repository) {
+        if (closed) {
+            return;
+        }
+        pending.compute(repository, (target, previous) -> {
+            if (previous != null) {
+                previous.cancel(false);
+            }
+            return scheduler.schedule(() -> reloadIfChanged(target), debounceMillis,
+                  TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private void reloadIfChanged(Reloadable repository) {
+        pending.remove(repository);
+        Map<Path, FileStamp> changed = new HashMap<>();
+        boolean external = stale.contains(repository);
+        for (Path file : repository.getWatchedFiles()) {
+            Path normalized = file.toAbsolutePath().normalize();
+            FileStamp current = FileStamp.of(normalized);
+            if (current == null || current.equals(known.get(normalized))) {
+                continue;
+            }
+            if (!writer.isOwnWrite(normalized)) {
+                external = true;
+            }
+            changed.put(normalized, current);
+        }
+        if (!external) {
+            known.putAll(changed);
+            ignoredOwnWrites.increment();
+            return;
+        }
+
+        stale.add(repository);
+        boolean reloaded;
+        try {
+            reloaded = repository.reload();
+        } catch (RuntimeException e) {
+            lastFailure = e;
+            failedReloads.increment();
+            if (failedAttempts.merge(repository, 1, Integer::sum) < MAX_FAILED_ATTEMPTS) {
+                schedule(repository);
+            }
+            return;
+        }
+        if (!reloaded) {
+            deferredReloads.increment();
+            schedule(repository);
+            return;
+        }
+        known.putAll(changed);
+        stale.remove(repository);
+        failedAttempts.remove(repository);
+        reloads.increment();
+    }
+
+    private void remember(Path file) {
+        FileStamp stamp = FileStamp.of(file);
+        if (stamp != null) {
+            known.put(file, stamp);
+        }
+    }
+
+    public long getReloads() {
+        return reloads.sum();
+    }
+
+    public long getIgnoredOwnWrites() {
+        return ignoredOwnWrites.sum();
+    }
+
+    public long getDeferredReloads() {
+        return deferredReloads.sum();
+    }
+
+    public long getFailedReloads() {
+        return failedReloads.sum();
+    }
+
+    public Optional<RuntimeException> getLastFailure() {
+        return Optional.ofNullable(lastFailure);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+        try {
+            watchService.close();
+        } catch (IOException ignored) {
+            // Nothing left to release once the service is gone.
+        }
+    }
+}
@@ -9,6 +9,7 @@ import static ui.MainMenu.readLine;
 import java.math.BigDecimal;
 import java.util.Scanner;
 import models.entities.Client;
+import models.enums.CohortPeriod;
 import services.ClientService;
 import services.EmailService;
 
@@ -158,6 +159,7 @@ public class ClientsMenu {
             System.out.println("1. VIP клієнти");
             System.out.println("2. Нові користувачі за N днів");
             System.out.println("3. Всі клієнти");
+            System.out.println("4. Когорти реєстрацій");
             System.out.println("0. Назад");
             System.out.println();
 
@@ -167,6 +169,7 @@ public class ClientsMenu {
                 case 1 -> viewVipClients();
                 case 2 -> viewNewClients();
                 case 3 -> viewAllClients();
+                case 4 -> viewRegistrationCohorts();
                 case 0 -> {
                     return;
                 }
@@ -223,6 +226,26 @@ public class ClientsMenu {
         pause();
     }
 
+    private void viewRegistrationCohorts() {
+        clearScreen();
+        printHeader("КОГОРТИ РЕЄСТРАЦІЙ");
+
+        System.out.println("1. По тижнях");
+        System.out.println("2. По місяцях");
+        int choice = readInt("Оберіть: ");
+        CohortPeriod period = choice == 2 ? CohortPeriod.MONTH : CohortPeriod.WEEK;
+
+        int periods = readInt("Кількість періодів: ");
+        var cohorts = clientService.getRegistrationCohorts(period, periods);
+
+        System.out.println();
+        System.out.println(period.getLabel() + " | Нових клієнтів");
+        cohorts.forEach((start, count) ->
+              System.out.printf("%-10s | %d%n", period.format(start), count));
+
+        pause();
+    }
+
     private void viewAllClients() {
         clearScreen();
         printHeader("ВСІ КЛІЄНТИ");
@@ -15,12 +15,8 @@ import storage.contracts.ComputerRepository;
 import storage.contracts.PaymentRepository;
 import storage.contracts.SessionRepository;
 import storage.contracts.TariffRepository;
-import storage.repository.JsonAdminRepository;
-import storage.repository.JsonClientRepository;
-import storage.repository.JsonComputerRepository;
-import storage.repository.JsonPaymentRepository;
-import storage.repository.JsonSessionRepository;
-import storage.repository.JsonTariffRepository;
+import storage.engine.Repositories;
+import storage.engine.StorageConfig;
 import storage.util.PasswordHasher;
 
 public class MainMenu {
@@ -33,18 +29,20 @@ public class MainMenu {
     private final TariffService tariffService;
     private final SessionService sessionService;
     private final PaymentService paymentService;
+    private final Repositories repositories;
 
     private Admin currentAdmin;
 
     public MainMenu() {
         this.scanner = new Scanner(System.in);
 
-        AdminRepository adminRepo = new JsonAdminRepository("data/admins.json");
-        ClientRepository clientRepo = new JsonClientRepository("data/clients.json");
-        ComputerRepository computerRepo = new JsonComputerRepository("data/computers.json");
-        TariffRepository tariffRepo = new JsonTariffRepository("data/tariffs.json");
-        SessionRepository sessionRepo = new JsonSessionRepository("data/sessions.json");
-        PaymentRepository paymentRepo = new JsonPaymentRepository("data/payments.json");
+        this.repositories = Repositories.open(StorageConfig.load(StorageConfig.DEFAULT_PATH));
+        AdminRepository adminRepo = repositories.admins();
+        ClientRepository clientRepo = repositories.clients();
+        ComputerRepository computerRepo = repositories.computers();
+        TariffRepository tariffRepo = repositories.tariffs();
+        SessionRepository sessionRepo = repositories.sessions();
+        PaymentRepository paymentRepo = repositories.payments();
 
         PasswordHasher passwordHasher = new PasswordHasher();
         this.adminService = new AdminService(adminRepo, passwordHasher);
@@ -55,7 +53,7 @@ public class MainMenu {
         this.paymentService = new PaymentService(paymentRepo);
         this.sessionService = new SessionService(
               sessionRepo, clientService, computerService, tariffService, clientRepo, computerRepo,
-              tariffRepo, paymentRepo);
+              tariffRepo, paymentRepo, repositories.getTransactionLog());
     }
 
     public static void printHeader(String title) {
@@ -113,10 +111,20 @@ public class MainMenu {
             System.out.println("❌ Помилка: " + e.getMessage());
             pause();
             return null;
+        } finally {
+            closeRepositories();
         }
         return null;
     }
 
+    private void closeRepositories() {
+        try {
+            repositories.close();
+        } catch (RuntimeException e) {
+            System.out.println("❌ Помилка збереження даних: " + e.getMessage());
+        }
+    }
+
     private void showMainMenu() {
         while (true) {
             clearScreen();
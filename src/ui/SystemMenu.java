@@ -86,12 +86,7 @@ public class SystemMenu {
         clearScreen();
         printHeader("РОЗПОЧАТИ СЕСІЮ");
 
-        var computers = computerService.getAllComputers();
-        var activeSessions = sessionService.findActiveSessions();
-
-        var availableComputers = computers.stream()
-              .filter(c -> c.getComputerStatus() == ComputerStatus.FREE)
-              .toList();
+        var availableComputers = computerService.getComputersByStatus(ComputerStatus.FREE);
 
         if (availableComputers.isEmpty()) {
             System.out.println("Немає доступних комп'ютерів.");
@@ -128,6 +123,8 @@ public class SystemMenu {
 
         System.out.println();
         List<Tariff> tariffs = tariffService.getAllTariffs();
+        tariffService.findCurrentTariff(LocalDateTime.now()).ifPresent(
+              tariff -> System.out.println("Діючий зараз тариф: " + tariff.getName()));
 
         for (int i = 0; i < tariffs.size(); i++) {
             System.out.println((i + 1) + ". ");
@@ -162,31 +159,28 @@ public class SystemMenu {
         clearScreen();
         printHeader("КОМП'ЮТЕРНИЙ ЗАЛ");
 
-        var computers = computerService.getAllComputers();
+        var free = computerService.getComputersByStatus(ComputerStatus.FREE);
+        var busy = computerService.getComputersByStatus(ComputerStatus.BUSY);
+        var offline = computerService.getComputersByStatus(ComputerStatus.OFFLINE);
+        int total = free.size() + busy.size() + offline.size();
 
-        if (computers.isEmpty()) {
+        if (total == 0) {
             System.out.println("Комп'ютерів ще немає.");
         } else {
-            System.out.println("Всього комп'ютерів: " + computers.size());
+            System.out.println("Всього комп'ютерів: " + total);
             System.out.println();
         }
 
         System.out.println("=== ВІЛЬНІ ===");
-        computers.stream()
-              .filter(c -> c.getComputerStatus() == ComputerStatus.FREE)
-              .forEach(c -> System.out.println("  " + formatComputer(c)));
+        free.forEach(c -> System.out.println("  " + formatComputer(c)));
 
         System.out.println();
         System.out.println("=== ЗАЙНЯТІ ===");
-        computers.stream()
-              .filter(c -> c.getComputerStatus() == ComputerStatus.BUSY)
-              .forEach(c -> System.out.println("  " + formatComputer(c)));
+        busy.forEach(c -> System.out.println("  " + formatComputer(c)));
 
         System.out.println();
         System.out.println("=== НА ОБСЛУГОВУВАННІ ===");
-        computers.stream()
-              .filter(c -> c.getComputerStatus() == ComputerStatus.OFFLINE)
-              .forEach(c -> System.out.println("  " + formatComputer(c)));
+        offline.forEach(c -> System.out.println("  " + formatComputer(c)));
         pause();
     }
 
@@ -318,6 +312,7 @@ public class SystemMenu {
             default -> {
                 System.out.println("Скасовано.");
                 pause();
+                return;
             }
         }
 
@@ -88,22 +88,20 @@ public class ClientValidator implements Validator<Client> {
     }
 
     private void validateNicknameUniqueness(Client entity, Map<String, List<String>> errors) {
-        var existingClient = repository.findByNameContaining(entity.getNickname());
-        List<Client> clients = repository.findAll();
-
-        if (!existingClient.isEmpty()) {
-            Client existing = existingClient.getFirst();
-
-            for (Client client : clients) {
-                if (existing.getNickname().equals(client.getNickname())) {
-                    List<String> nicknameErrors = errors.getOrDefault("nickname",
-                          new ArrayList<>());
-                    nicknameErrors.add("Клієнт з nickname '" + entity.getNickname() +
-                          "' вже існує");
-                    errors.put("nickname", nicknameErrors);
-                    break;
-                }
-            }
+        if (entity.getNickname() == null) {
+            return;
+        }
+
+        boolean taken = repository.findByNameContaining(entity.getNickname()).stream()
+              .anyMatch(client -> client.getNickname().equalsIgnoreCase(entity.getNickname())
+                    && !client.getId().equals(entity.getId()));
+
+        if (taken) {
+            List<String> nicknameErrors = errors.getOrDefault("nickname",
+                  new ArrayList<>());
+            nicknameErrors.add("Клієнт з nickname '" + entity.getNickname() +
+                  "' вже існує");
+            errors.put("nickname", nicknameErrors);
         }
     }
 
@@ -142,11 +142,8 @@ public class SessionValidator implements Validator<Session> {
             return;
         }
 
-        sessionRepository.findAll().stream()
-              .filter(s -> s.getClientId().equals(clientId))
-              .filter(s -> s.getEndTime() == null)
+        sessionRepository.findActiveByClientId(clientId)
               .filter(s -> !s.getId().equals(sessionId))
-              .findFirst()
               .ifPresent(existingSession -> {
                   addError(errors, "clientId",
                         "У клієнта вже є активна сесія на комп'ютері " +
@@ -167,11 +164,8 @@ public class SessionValidator implements Validator<Session> {
             }
         });
 
-        sessionRepository.findAll().stream()
-              .filter(s -> s.getComputerId().equals(computerId))
-              .filter(s -> s.getEndTime() == null)
+        sessionRepository.findActiveByComputerId(computerId)
               .filter(s -> !s.getId().equals(sessionId))
-              .findFirst()
               .ifPresent(existingSession -> {
                   addError(errors, "computerId",
                         "На цьому комп'ютері вже є активна сесія клієнта " +
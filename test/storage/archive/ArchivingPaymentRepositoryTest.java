@@ -0,0 +1,98 @@
+package storage.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import models.entities.Payment;
+import models.enums.PaymentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.cache.CacheOptions;
+import storage.cache.CachedPaymentRepository;
+import storage.repository.GroupCommitWriter;
+import storage.repository.JsonFileStore;
+
+class ArchivingPaymentRepositoryTest {
+
+    private static final LocalDateTime OLD = LocalDateTime.of(2020, 1, 1, 10, 0);
+
+    @TempDir
+    Path directory;
+
+    private GroupCommitWriter writer;
+    private CachedPaymentRepository hot;
+    private ArchivingPaymentRepository payments;
+
+    @BeforeEach
+    void setUp() {
+        writer = new GroupCommitWriter(GroupCommitWriter.DEFAULT_WINDOW);
+        hot = new CachedPaymentRepository(new JsonFileStore<>(
+              directory.resolve("payments.json").toString(), Payment.class, writer),
+              CacheOptions.writeThrough());
+        ArchiveStore<Payment> archive = new ArchiveStore<>(
+              directory.resolve("archive").toString(), Payment.class, Payment::getPaymentTime,
+              Payment::getSessionId, writer);
+        payments = new ArchivingPaymentRepository(hot, archive,
+              new ArchiveOptions(Duration.ofDays(30), Duration.ofHours(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        payments.close();
+        writer.close();
+    }
+
+    private Payment payment(LocalDateTime time) {
+        return hot.save(new Payment(UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("20"),
+              time, PaymentType.CASH));
+    }
+
+    @Test
+    void archiveMovesOldPaymentsOutOfHotStorage() {
+        Payment old = payment(OLD);
+        Payment recent = payment(LocalDateTime.now());
+
+        assertEquals(1, payments.archive());
+
+        assertEquals(List.of(recent.getId()), hot.findAll().stream().map(Payment::getId).toList());
+        assertEquals(old.getId(), payments.findById(old.getId()).orElseThrow().getId());
+        assertEquals(2, payments.findAll().size());
+    }
+
+    @Test
+    void coldLookupsOnlyReadMatchingSegments() throws IOException {
+        Payment first = payment(OLD);
+        payments.archive();
+        Payment second = payment(OLD.plusDays(1));
+        payments.archive();
+
+        List<SegmentSummary> segments = payments.getArchive().getSegments();
+        assertEquals(2, segments.size());
+        Files.delete(directory.resolve("archive").resolve(segments.getFirst().fileName()));
+
+        assertEquals(second.getId(), payments.findById(second.getId()).orElseThrow().getId());
+        assertEquals(second.getId(),
+              payments.findBySessionId(second.getSessionId()).orElseThrow().getId());
+        assertTrue(payments.findById(UUID.randomUUID()).isEmpty());
+        assertTrue(segments.getFirst().mightContainId(first.getId()));
+        assertTrue(segments.getFirst().mightContainKey(first.getSessionId()));
+    }
+
+    @Test
+    void findBySessionIdAcceptsNull() {
+        payment(OLD);
+        payments.archive();
+
+        assertTrue(payments.findBySessionId(null).isEmpty());
+    }
+}
@@ -0,0 +1,76 @@
+package storage.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import models.entities.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.cache.CacheOptions;
+import storage.cache.CachedSessionRepository;
+import storage.repository.GroupCommitWriter;
+import storage.repository.JsonFileStore;
+
+class ArchivingSessionRepositoryTest {
+
+    private static final LocalDateTime OLD = LocalDateTime.of(2020, 1, 1, 10, 0);
+
+    @TempDir
+    Path directory;
+
+    private GroupCommitWriter writer;
+    private CachedSessionRepository hot;
+    private ArchivingSessionRepository sessions;
+
+    @BeforeEach
+    void setUp() {
+        writer = new GroupCommitWriter(GroupCommitWriter.DEFAULT_WINDOW);
+        hot = new CachedSessionRepository(new JsonFileStore<>(
+              directory.resolve("sessions.json").toString(), Session.class, writer),
+              CacheOptions.writeThrough());
+        ArchiveStore<Session> archive = new ArchiveStore<>(
+              directory.resolve("archive").toString(), Session.class, Session::getStartTime,
+              Session::getClientId, writer);
+        sessions = new ArchivingSessionRepository(hot, archive,
+              new ArchiveOptions(Duration.ofDays(30), Duration.ofHours(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessions.close();
+        writer.close();
+    }
+
+    private Session session(UUID clientId, LocalDateTime start) {
+        return hot.save(new Session(UUID.randomUUID(), clientId, UUID.randomUUID(),
+              UUID.randomUUID(), start, start.plusHours(1), new BigDecimal("50"), false));
+    }
+
+    @Test
+    void clientHistoryReadsOnlySegmentsWithThatClient() throws IOException {
+        session(null, OLD);
+        sessions.archive();
+        Session archived = session(UUID.randomUUID(), OLD.plusDays(1));
+        sessions.archive();
+        Session recent = session(archived.getClientId(), LocalDateTime.now());
+
+        List<SegmentSummary> segments = sessions.getArchive().getSegments();
+        assertEquals(2, segments.size());
+        Files.delete(directory.resolve("archive").resolve(segments.getFirst().fileName()));
+
+        assertEquals(List.of(recent.getId(), archived.getId()).stream().sorted().toList(),
+              sessions.findByClientId(archived.getClientId()).stream()
+                    .map(Session::getId).sorted().toList());
+        assertTrue(sessions.findByClientId(UUID.randomUUID()).isEmpty());
+    }
+}
@@ -0,0 +1,146 @@
+package storage.binary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import models.entities.Client;
+import models.entities.Computer;
+import models.entities.Payment;
+import models.entities.Session;
+import models.enums.ComputerStatus;
+import models.enums.ComputerType;
+import models.enums.PaymentType;
+import models.util.Entity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.repository.GroupCommitWriter;
+
+class BinaryFormatTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 15, 18, 30, 5);
+
+    @TempDir
+    Path directory;
+
+    private static <T extends Entity> List<T> roundTrip(Class<T> type, List<T> entities)
+          throws IOException {
+        BinaryCodec<T> codec = BinaryFormat.codecFor(type);
+        byte[] bytes = BinaryFormat.encode(codec, entities);
+        return BinaryFormat.decode(codec, new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void roundTripsSessionsWithVersionsAndNulls() throws IOException {
+        Session ended = new Session(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+              UUID.randomUUID(), START, START.plusHours(2), new BigDecimal("123.45"), false);
+        ended.setVersion(7);
+        Session active = new Session(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+              UUID.randomUUID(), START, null, null, true);
+
+        List<Session> decoded = roundTrip(Session.class, List.of(ended, active));
+
+        assertEquals(2, decoded.size());
+        Session first = decoded.get(0);
+        assertEquals(ended.getId(), first.getId());
+        assertEquals(ended.getClientId(), first.getClientId());
+        assertEquals(ended.getComputerId(), first.getComputerId());
+        assertEquals(ended.getTariffId(), first.getTariffId());
+        assertEquals(START, first.getStartTime());
+        assertEquals(START.plusHours(2), first.getEndTime());
+        assertEquals(0, new BigDecimal("123.45").compareTo(first.getTotalCost()));
+        assertFalse(first.isActive());
+        assertEquals(7, first.getVersion());
+
+        Session second = decoded.get(1);
+        assertNull(second.getEndTime());
+        assertNull(second.getTotalCost());
+        assertTrue(second.isActive());
+        assertEquals(0, second.getVersion());
+    }
+
+    @Test
+    void roundTripsClientsComputersAndPayments() throws IOException {
+        Client client = new Client(UUID.randomUUID(), "гравець", "player@example.com",
+              new BigDecimal("250.50"), 3, new BigDecimal("5"), START);
+        Client decodedClient = roundTrip(Client.class, List.of(client)).getFirst();
+        assertEquals("гравець", decodedClient.getNickname());
+        assertEquals("player@example.com", decodedClient.getEmail());
+        assertEquals(0, client.getBalance().compareTo(decodedClient.getBalance()));
+        assertEquals(3, decodedClient.getVisitCount());
+        assertEquals(START, decodedClient.getRegistrationDate());
+
+        Computer computer = new Computer(UUID.randomUUID(), 12, ComputerType.VIP,
+              ComputerStatus.BUSY);
+        Computer decodedComputer = roundTrip(Computer.class, List.of(computer)).getFirst();
+        assertEquals(12, decodedComputer.getNumber());
+        assertEquals(ComputerType.VIP, decodedComputer.getComputerType());
+        assertEquals(ComputerStatus.BUSY, decodedComputer.getComputerStatus());
+
+        Payment payment = new Payment(UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("99.99"),
+              START, PaymentType.CASH);
+        Payment decodedPayment = roundTrip(Payment.class, List.of(payment)).getFirst();
+        assertEquals(payment.getSessionId(), decodedPayment.getSessionId());
+        assertEquals(0, payment.getAmount().compareTo(decodedPayment.getAmount()));
+        assertEquals(START, decodedPayment.getPaymentTime());
+        assertEquals(PaymentType.CASH, decodedPayment.getPaymentType());
+    }
+
+    @Test
+    void readsUnversionedFiles() throws IOException {
+        Computer computer = new Computer(UUID.randomUUID(), 4, ComputerType.STANDART,
+              ComputerStatus.FREE);
+        BinaryCodec<Computer> codec = BinaryFormat.codecFor(Computer.class);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(BinaryFormat.MAGIC);
+            out.writeShort(1);
+            out.writeByte(codec.getTypeTag());
+            out.writeInt(1);
+            codec.write(out, computer);
+        }
+
+        List<Computer> decoded = BinaryFormat.decode(codec,
+              new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(computer.getId(), decoded.getFirst().getId());
+        assertEquals(0, decoded.getFirst().getVersion());
+    }
+
+    @Test
+    void rejectsRecordsOfAnotherType() {
+        byte[] bytes = BinaryFormat.encode(BinaryFormat.codecFor(Payment.class), List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryFormat.decode(
+              BinaryFormat.codecFor(Session.class),
+              new DataInputStream(new ByteArrayInputStream(bytes))));
+    }
+
+    @Test
+    void fileStoreReloadsWhatItWrote() {
+        try (GroupCommitWriter writer = new GroupCommitWriter(GroupCommitWriter.DEFAULT_WINDOW)) {
+            String path = directory.resolve("payments.bin").toString();
+            Payment payment = new Payment(UUID.randomUUID(), new BigDecimal("10"),
+                  PaymentType.BY_CARD);
+            payment.setVersion(3);
+            new BinaryFileStore<>(path, Payment.class, writer).writeAll(List.of(payment));
+
+            Payment loaded = new BinaryFileStore<>(path, Payment.class, writer).loadAll()
+                  .getFirst();
+            assertEquals(payment.getId(), loaded.getId());
+            assertEquals(3, loaded.getVersion());
+        }
+    }
+}
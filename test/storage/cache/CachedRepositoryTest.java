@@ -0,0 +1,113 @@
+package storage.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import models.entities.Tariff;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.contracts.StaleEntityException;
+import storage.repository.GroupCommitWriter;
+import storage.repository.JsonFileStore;
+
+class CachedRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private GroupCommitWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new GroupCommitWriter(GroupCommitWriter.DEFAULT_WINDOW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.close();
+    }
+
+    private CachedTariffRepository open(CacheOptions options) {
+        return new CachedTariffRepository(new JsonFileStore<>(
+              directory.resolve("tariffs.json").toString(), Tariff.class, writer), options);
+    }
+
+    private static Tariff tariff(String name) {
+        return new Tariff(name, new BigDecimal("50"), LocalTime.of(8, 0), LocalTime.of(20, 0),
+              false);
+    }
+
+    @Test
+    void closeFlushesPeriodicChanges() {
+        CachedTariffRepository repository = open(CacheOptions.periodic(Duration.ofHours(1)));
+        repository.start();
+        Tariff saved = repository.save(tariff("Денний"));
+
+        assertTrue(open(CacheOptions.writeThrough()).findById(saved.getId()).isEmpty());
+        repository.close();
+
+        assertEquals("Денний",
+              open(CacheOptions.writeThrough()).findById(saved.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void closeWithoutStartKeepsWritesDurable() {
+        CachedTariffRepository repository =
+              open(CacheOptions.writeBehind(Duration.ofHours(1), 1 << 20));
+        Tariff saved = repository.save(tariff("Нічний"));
+        repository.close();
+        repository.close();
+
+        assertTrue(open(CacheOptions.writeThrough()).findById(saved.getId()).isPresent());
+    }
+
+    @Test
+    void rejectsStaleUpdate() {
+        CachedTariffRepository repository = open(CacheOptions.writeThrough());
+        Tariff saved = repository.save(tariff("Денний"));
+        Tariff first = repository.findById(saved.getId()).orElseThrow();
+        Tariff second = repository.findById(saved.getId()).orElseThrow();
+
+        repository.update(renamed(first, "Ранковий"));
+
+        assertEquals(0, second.getVersion());
+        assertThrows(StaleEntityException.class,
+              () -> repository.update(renamed(second, "Вечірній")));
+        Tariff stored = repository.findById(saved.getId()).orElseThrow();
+        assertEquals("Ранковий", stored.getName());
+        assertEquals(1, stored.getVersion());
+    }
+
+    @Test
+    void updateKeepsOverlappingTariffPriority() {
+        LocalDateTime noon = LocalDateTime.of(2024, 1, 10, 12, 0);
+        CachedTariffRepository repository = open(CacheOptions.writeThrough());
+        Tariff day = repository.save(tariff("Денний"));
+        repository.save(new Tariff("Нічний", new BigDecimal("30"), LocalTime.of(20, 0),
+              LocalTime.of(8, 0), true));
+        repository.save(new Tariff("VIP", new BigDecimal("120"), LocalTime.of(0, 0),
+              LocalTime.of(23, 59), false));
+        assertEquals(day.getId(), repository.findCurrentTariff(noon).orElseThrow().getId());
+
+        repository.update(renamed(repository.findById(day.getId()).orElseThrow(), "Ранковий"));
+
+        assertEquals("Ранковий", repository.findCurrentTariff(noon).orElseThrow().getName());
+        assertEquals("Ранковий",
+              open(CacheOptions.writeThrough()).findCurrentTariff(noon).orElseThrow().getName());
+    }
+
+    private static Tariff renamed(Tariff tariff, String name) {
+        Tariff renamed = new Tariff(tariff.getId(), name, tariff.getPricePerHour(),
+              tariff.getStartHour(), tariff.getEndHour(), tariff.isNightTariff());
+        renamed.setVersion(tariff.getVersion());
+        return renamed;
+    }
+}
@@ -0,0 +1,178 @@
+package storage.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import models.entities.Tariff;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.repository.GroupCommitWriter;
+import storage.repository.JsonFileStore;
+
+class WriteBehindQueueTest {
+
+    private static final Duration LAG = Duration.ofMillis(10);
+
+    @TempDir
+    Path directory;
+
+    private GroupCommitWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new GroupCommitWriter(GroupCommitWriter.DEFAULT_WINDOW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.close();
+    }
+
+    private CachedTariffRepository open(CacheOptions options) {
+        return new CachedTariffRepository(new JsonFileStore<>(
+              directory.resolve("tariffs.json").toString(), Tariff.class, writer), options);
+    }
+
+    private static Tariff tariff(String name) {
+        return new Tariff(name, new BigDecimal("50"), LocalTime.of(8, 0), LocalTime.of(20, 0),
+              false);
+    }
+
+    private static Tariff priced(Tariff tariff, int price) {
+        Tariff priced = new Tariff(tariff.getId(), tariff.getName(), BigDecimal.valueOf(price),
+              tariff.getStartHour(), tariff.getEndHour(), tariff.isNightTariff());
+        priced.setVersion(tariff.getVersion());
+        return priced;
+    }
+
+    @Test
+    void flushesNeverOverlap() throws InterruptedException {
+        AtomicInteger active = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        WriteBehindQueue queue = new WriteBehindQueue("test", LAG, 1 << 20, ids -> {
+            if (active.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            Thread.onSpinWait();
+            active.decrementAndGet();
+        });
+        queue.start();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 200; i++) {
+                    queue.offer(Set.of(UUID.randomUUID()), 16);
+                    queue.flush();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        queue.close();
+
+        assertFalse(overlapped.get());
+        assertFalse(queue.hasPending());
+    }
+
+    @Test
+    void lastWriteWinsOnDisk() throws InterruptedException {
+        CachedTariffRepository repository = open(CacheOptions.writeBehind(LAG, 1 << 20));
+        repository.start();
+        Tariff saved = repository.save(tariff("Денний"));
+
+        CountDownLatch done = new CountDownLatch(1);
+        Thread flusher = Thread.ofPlatform().start(() -> {
+            while (done.getCount() > 0) {
+                repository.flush();
+            }
+        });
+        Tariff current = saved;
+        for (int price = 1; price <= 300; price++) {
+            current = repository.update(priced(current, price));
+        }
+        done.countDown();
+        flusher.join();
+        repository.close();
+
+        Tariff stored = open(CacheOptions.writeThrough()).findById(saved.getId()).orElseThrow();
+        assertEquals(0, BigDecimal.valueOf(300).compareTo(stored.getPricePerHour()));
+        assertEquals(300, stored.getVersion());
+    }
+
+    @Test
+    void writesAfterCloseLeaveCacheUnchanged() {
+        CachedTariffRepository repository = open(CacheOptions.writeBehind(LAG, 1 << 20));
+        repository.start();
+        Tariff saved = repository.save(tariff("Денний"));
+        repository.close();
+
+        assertThrows(IllegalStateException.class, () -> repository.save(tariff("Нічний")));
+        assertThrows(IllegalStateException.class,
+              () -> repository.update(priced(saved, 70)));
+
+        assertEquals(1, repository.findAll().size());
+        assertEquals(0, new BigDecimal("50").compareTo(
+              repository.findById(saved.getId()).orElseThrow().getPricePerHour()));
+    }
+
+    @Test
+    void stopsRetryingAndRejectsWritesAfterRepeatedFailures() throws InterruptedException {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        AtomicInteger attempts = new AtomicInteger();
+        WriteBehindQueue queue = new WriteBehindQueue("test", LAG, 1 << 20, ids -> {
+            attempts.incrementAndGet();
+            if (failing.get()) {
+                throw new IllegalArgumentException("Диск недоступний");
+            }
+        });
+        queue.start();
+        queue.offer(Set.of(UUID.randomUUID()), 16);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (attempts.get() < WriteBehindQueue.MAX_ATTEMPTS && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(LAG.toMillis() * 20);
+
+        assertEquals(WriteBehindQueue.MAX_ATTEMPTS, attempts.get());
+        assertThrows(IllegalStateException.class,
+              () -> queue.offer(Set.of(UUID.randomUUID()), 16));
+        assertTrue(queue.hasPending());
+
+        failing.set(false);
+        queue.flush();
+        queue.offer(Set.of(UUID.randomUUID()), 16);
+        queue.close();
+
+        assertFalse(queue.hasPending());
+    }
+
+    @Test
+    void closeReportsChangesItCouldNotWrite() {
+        WriteBehindQueue queue = new WriteBehindQueue("test", Duration.ofHours(1), 1 << 20,
+              ids -> {
+                  throw new IllegalArgumentException("Диск недоступний");
+              });
+        queue.offer(Set.of(UUID.randomUUID()), 16);
+
+        assertThrows(IllegalStateException.class, queue::close);
+        assertTrue(queue.hasPending());
+    }
+}
@@ -0,0 +1,133 @@
+package storage.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import models.entities.Payment;
+import models.entities.Session;
+import models.enums.PaymentType;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import storage.contracts.PaymentRepository;
+import storage.contracts.SessionRepository;
+import storage.contracts.StaleEntityException;
+
+class RepositoryContractTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+    @TempDir
+    Path directory;
+
+    private StorageConfig config(StorageBackend backend) {
+        StorageConfig config = StorageConfig.defaults()
+              .with("data.dir", directory.toString())
+              .with("backend.default", StorageBackend.CACHED.getKey());
+        for (EntityKind kind : EntityKind.values()) {
+            if (backend.supports(kind)) {
+                config = config.with("backend." + kind.getKey(), backend.getKey());
+            }
+        }
+        return config;
+    }
+
+    private static Session active(UUID clientId, LocalDateTime start) {
+        return new Session(UUID.randomUUID(), clientId, UUID.randomUUID(), UUID.randomUUID(),
+              start, null, BigDecimal.ZERO, true);
+    }
+
+    private static Session ended(Session session, String cost) {
+        Session ended = new Session(session.getId(), session.getClientId(),
+              session.getComputerId(), session.getTariffId(), session.getStartTime(),
+              session.getStartTime().plusHours(2), new BigDecimal(cost), false);
+        ended.setVersion(session.getVersion());
+        return ended;
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = {"JSON", "BINARY", "JOURNAL", "MAPPED", "PARTITIONED"})
+    void savedSessionsSurviveReopen(StorageBackend backend) {
+        UUID clientId = UUID.randomUUID();
+        Session first = active(clientId, START);
+        Session second = active(clientId, START.plusDays(1));
+        try (Repositories repositories = Repositories.open(config(backend))) {
+            repositories.sessions().save(first);
+            repositories.sessions().save(second);
+            repositories.sessions().update(ended(first, "120"));
+        }
+
+        try (Repositories repositories = Repositories.open(config(backend))) {
+            SessionRepository sessions = repositories.sessions();
+            Session loaded = sessions.findById(first.getId()).orElseThrow();
+            assertEquals(clientId, loaded.getClientId());
+            assertEquals(START, loaded.getStartTime());
+            assertEquals(0, new BigDecimal("120").compareTo(loaded.getTotalCost()));
+            assertEquals(1, loaded.getVersion());
+            assertEquals(2, sessions.findByClientId(clientId).size());
+            assertEquals(List.of(second.getId()),
+                  sessions.findActive().stream().map(Session::getId).toList());
+            assertEquals(second.getId(),
+                  sessions.findActiveByClientId(clientId).orElseThrow().getId());
+            assertEquals(List.of(first.getId()), sessions.findByStartTimeBetween(
+                  START.minusHours(1), START.plusHours(1)).stream().map(Session::getId).toList());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = {"JSON", "BINARY", "JOURNAL", "MAPPED", "PARTITIONED"})
+    void rejectsStaleSessionUpdate(StorageBackend backend) {
+        try (Repositories repositories = Repositories.open(config(backend))) {
+            SessionRepository sessions = repositories.sessions();
+            Session session = sessions.save(active(UUID.randomUUID(), START));
+            Session stale = ended(sessions.findById(session.getId()).orElseThrow(), "10");
+
+            sessions.update(ended(sessions.findById(session.getId()).orElseThrow(), "20"));
+
+            assertThrows(StaleEntityException.class, () -> sessions.update(stale));
+            assertEquals(0, new BigDecimal("20").compareTo(
+                  sessions.findById(session.getId()).orElseThrow().getTotalCost()));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = {"JSON", "BINARY", "JOURNAL", "MAPPED", "PARTITIONED"})
+    void deletedSessionsStayDeleted(StorageBackend backend) {
+        Session session = active(UUID.randomUUID(), START);
+        try (Repositories repositories = Repositories.open(config(backend))) {
+            repositories.sessions().save(session);
+            repositories.sessions().delete(session.getId());
+            assertTrue(repositories.sessions().findById(session.getId()).isEmpty());
+        }
+
+        try (Repositories repositories = Repositories.open(config(backend))) {
+            assertTrue(repositories.sessions().findById(session.getId()).isEmpty());
+            assertTrue(repositories.sessions().findActive().isEmpty());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = {"JSON", "BINARY", "JOURNAL", "MAPPED", "PARTITIONED"})
+    void paymentsAreFoundBySession(StorageBackend backend) {
+        UUID sessionId = UUID.randomUUID();
+        Payment payment = new Payment(UUID.randomUUID(), sessionId, new BigDecimal("75"), START,
+              PaymentType.CASH);
+        try (Repositories repositories = Repositories.open(config(backend))) {
+            repositories.payments().save(payment);
+        }
+
+        try (Repositories repositories = Repositories.open(config(backend))) {
+            PaymentRepository payments = repositories.payments();
+            assertEquals(payment.getId(),
+                  payments.findBySessionId(sessionId).orElseThrow().getId());
+            assertEquals(0, new BigDecimal("75").compareTo(payments.getTotalRevenue(START)));
+            assertEquals(1, payments.findByType(PaymentType.CASH).size());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package storage.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StorageConfigTest {
+
+    @TempDir
+    Path directory;
+
+    private StorageConfig load(String content) throws IOException {
+        Path file = directory.resolve("storage.properties");
+        Files.writeString(file, content);
+        return StorageConfig.load(file.toString());
+    }
+
+    @Test
+    void acceptsPerKindOverrides() throws IOException {
+        StorageConfig config = load("backend.default=cached\nbackend.sessions=mapped\n");
+
+        assertEquals(StorageBackend.MAPPED, config.getBackend(EntityKind.SESSIONS));
+        assertEquals(StorageBackend.CACHED, config.getBackend(EntityKind.ADMINS));
+    }
+
+    @Test
+    void rejectsUnsupportedBackendWhenLoaded() {
+        assertThrows(IllegalArgumentException.class, () -> load("backend.payments=mapped\n"));
+        assertThrows(IllegalArgumentException.class, () -> load("backend.default=journal\n"));
+    }
+
+    @Test
+    void shippedConfigurationUsesBaselineDefaults() {
+        StorageConfig config = StorageConfig.load(StorageConfig.DEFAULT_PATH);
+
+        for (EntityKind kind : EntityKind.values()) {
+            assertEquals(StorageBackend.CACHED, config.getBackend(kind));
+        }
+        assertFalse(config.isWatchEnabled());
+    }
+}
@@ -0,0 +1,35 @@
+package storage.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import models.entities.Admin;
+import org.junit.jupiter.api.Test;
+
+class HashIndexTest {
+
+    private final Admin admin = new Admin("Operator", "secret", "Operator@Club.ua");
+
+    @Test
+    void matchesExactKeysByDefault() {
+        HashIndex<Admin> index = new HashIndex<>("login", Admin::getLogin);
+        index.rebuild(List.of(admin));
+
+        assertEquals(Set.of(admin.getId()), index.find("Operator"));
+        assertTrue(index.find("operator").isEmpty());
+        assertTrue(index.find(" Operator ").isEmpty());
+    }
+
+    @Test
+    void foldsCaseWhenRequested() {
+        HashIndex<Admin> index = new HashIndex<>("email", Admin::getEmail, true);
+        index.rebuild(List.of(admin));
+
+        assertEquals(Set.of(admin.getId()), index.find("operator@club.ua"));
+
+        index.remove(admin);
+        assertTrue(index.find("Operator@Club.ua").isEmpty());
+    }
+}
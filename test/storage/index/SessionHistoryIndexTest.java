@@ -0,0 +1,44 @@
+package storage.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import models.entities.Session;
+import org.junit.jupiter.api.Test;
+
+class SessionHistoryIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 10, 12, 0);
+
+    private final UUID client = UUID.randomUUID();
+    private final SessionHistoryIndex index =
+          new SessionHistoryIndex("clientId", Session::getClientId);
+
+    private Session session(int hours) {
+        return new Session(UUID.randomUUID(), client, UUID.randomUUID(), UUID.randomUUID(),
+              START.plusHours(hours), START.plusHours(hours + 1), new BigDecimal("50"), false);
+    }
+
+    @Test
+    void pagesNewestFirst() {
+        List<Session> sessions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            sessions.add(session(i));
+        }
+        index.rebuild(sessions.reversed());
+
+        assertEquals(List.of(sessions.get(2).getId(), sessions.get(1).getId()),
+              index.find(client, 2, 2));
+        assertEquals(List.of(sessions.getFirst().getId()), index.find(client, 4, 10));
+        assertTrue(index.find(client, 5, 10).isEmpty());
+
+        index.remove(sessions.get(4));
+        assertEquals(sessions.get(3).getId(), index.find(client, 0, 1).getFirst());
+        assertEquals(4, index.count(client));
+    }
+}
@@ -0,0 +1,125 @@
+package storage.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import models.entities.Tariff;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.repository.GroupCommitWriter;
+
+class JournalStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private GroupCommitWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new GroupCommitWriter(GroupCommitWriter.DEFAULT_WINDOW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.close();
+    }
+
+    private JournalStore<Tariff> open() {
+        return new JournalStore<>(directory.resolve("tariffs.json").toString(), Tariff.class,
+              new JournalOptions(1000, Duration.ofHours(1)), writer);
+    }
+
+    private Path journal() {
+        return directory.resolve("tariffs.journal");
+    }
+
+    private static Tariff tariff(String name) {
+        return new Tariff(name, new BigDecimal("40"), LocalTime.of(9, 0), LocalTime.of(18, 0),
+              false);
+    }
+
+    private static Set<String> names(List<Tariff> tariffs) {
+        return tariffs.stream().map(Tariff::getName).collect(Collectors.toSet());
+    }
+
+    private void append(String text) throws IOException {
+        Files.writeString(journal(), text, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    @Test
+    void replaysPutsAndDeletesInOrder() {
+        Tariff day = tariff("Денний");
+        Tariff night = tariff("Нічний");
+        try (JournalStore<Tariff> store = open()) {
+            store.insert(day, List.of()).join();
+            store.insert(night, List.of()).join();
+            store.delete(day.getId(), List.of()).join();
+        }
+
+        try (JournalStore<Tariff> store = open()) {
+            assertEquals(Set.of("Нічний"), names(store.loadAll()));
+            assertEquals(3, store.getJournalRecords());
+        }
+    }
+
+    @Test
+    void compactionMovesStateIntoSnapshot() throws IOException {
+        try (JournalStore<Tariff> store = open()) {
+            store.insert(tariff("Денний"), List.of()).join();
+            store.insert(tariff("Нічний"), List.of()).join();
+            store.compact();
+
+            assertEquals(0, store.getJournalRecords());
+            assertEquals(0, Files.size(journal()));
+        }
+
+        try (JournalStore<Tariff> store = open()) {
+            assertEquals(Set.of("Денний", "Нічний"), names(store.loadAll()));
+        }
+    }
+
+    @Test
+    void dropsTornLastRecord() throws IOException {
+        try (JournalStore<Tariff> store = open()) {
+            store.insert(tariff("Денний"), List.of()).join();
+        }
+        long valid = Files.size(journal());
+        append("{\"op\":\"PUT\",\"entity\":{\"id\":\"");
+
+        try (JournalStore<Tariff> store = open()) {
+            assertEquals(Set.of("Денний"), names(store.loadAll()));
+        }
+        assertEquals(valid, Files.size(journal()));
+    }
+
+    @Test
+    void rejectsCorruptionBeforeLastRecord() throws IOException {
+        try (JournalStore<Tariff> store = open()) {
+            store.insert(tariff("Денний"), List.of()).join();
+        }
+        append("{\"op\":\"DELETE\"}\n");
+        append("{\"op\":\"DELETE\",\"id\":\"" + UUID.randomUUID() + "\"}\n");
+        long size = Files.size(journal());
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+              () -> open().loadAll());
+        assertTrue(error.getMessage().contains("у рядку 2"));
+        assertEquals(size, Files.size(journal()));
+    }
+}
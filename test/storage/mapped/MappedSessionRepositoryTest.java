@@ -0,0 +1,123 @@
+package storage.mapped;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import models.entities.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedSessionRepositoryTest {
+
+    private static final int ROW_VERSION = 91;
+
+    @TempDir
+    Path directory;
+
+    private static Session session() {
+        return new Session(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+              UUID.randomUUID(), LocalDateTime.of(2024, 5, 1, 10, 0), null, BigDecimal.ZERO,
+              true);
+    }
+
+    @Test
+    void keepsVersionsBeyondIntRange() {
+        Path file = directory.resolve("sessions.dat");
+        Session session = session();
+        session.setVersion(Integer.MAX_VALUE + 5L);
+        try (MappedSessionRepository repository = new MappedSessionRepository(file.toString())) {
+            repository.save(session);
+            repository.update(session);
+        }
+
+        try (MappedSessionRepository repository = new MappedSessionRepository(file.toString())) {
+            assertEquals(Integer.MAX_VALUE + 6L,
+                  repository.findById(session.getId()).orElseThrow().getVersion());
+        }
+    }
+
+    @Test
+    void upgradesLegacyFile() throws IOException {
+        Path file = directory.resolve("sessions.dat");
+        Session session = session();
+        session.setVersion(7);
+        try (MappedSessionRepository repository = new MappedSessionRepository(file.toString())) {
+            repository.save(session);
+        }
+        Files.write(file, downgrade(Files.readAllBytes(file)));
+
+        try (MappedSessionRepository repository = new MappedSessionRepository(file.toString())) {
+            Session loaded = repository.findById(session.getId()).orElseThrow();
+            assertEquals(7, loaded.getVersion());
+            assertEquals(session.getClientId(), loaded.getClientId());
+            assertEquals(session.getStartTime(), loaded.getStartTime());
+        }
+        assertEquals(MappedSessionRepository.VERSION, ByteBuffer.wrap(Files.readAllBytes(file))
+              .getShort(4));
+    }
+
+    private static byte[] downgrade(byte[] current) {
+        int header = MappedSessionRepository.HEADER_SIZE;
+        int size = MappedSessionRepository.RECORD_SIZE;
+        int legacySize = 96;
+        int count = (current.length - header) / size;
+        ByteBuffer source = ByteBuffer.wrap(current);
+        ByteBuffer legacy = ByteBuffer.allocate(header + count * legacySize);
+        legacy.put(0, source, 0, header);
+        legacy.putShort(4, (short) 1);
+        legacy.putShort(6, (short) legacySize);
+        for (int slot = 0; slot < count; slot++) {
+            int from = header + slot * size;
+            int to = header + slot * legacySize;
+            legacy.put(to, source, from, ROW_VERSION);
+            legacy.putInt(to + ROW_VERSION, (int) source.getLong(from + ROW_VERSION));
+        }
+        return legacy.array();
+    }
+
+    @Test
+    void growsFileWithoutSlots() throws IOException {
+        Path file = directory.resolve("sessions.dat");
+        try (MappedSessionRepository repository = new MappedSessionRepository(file.toString())) {
+            assertEquals(List.of(), repository.findAll());
+        }
+        Files.write(file, Arrays.copyOf(Files.readAllBytes(file),
+              MappedSessionRepository.HEADER_SIZE));
+
+        Session session = session();
+        try (MappedSessionRepository repository = new MappedSessionRepository(file.toString())) {
+            repository.save(session);
+            assertEquals(session.getId(), repository.findById(session.getId()).orElseThrow()
+                  .getId());
+        }
+    }
+
+    @Test
+    void failedUpdateKeepsSessionIndexed() {
+        Path file = directory.resolve("sessions.dat");
+        Session session = session();
+        try (MappedSessionRepository repository = new MappedSessionRepository(file.toString())) {
+            repository.save(session);
+            Session ended = new Session(session.getId(), session.getClientId(),
+                  session.getComputerId(), session.getTariffId(), session.getStartTime(),
+                  session.getStartTime().plusHours(1), new BigDecimal("1e30"), false);
+
+            assertThrows(IllegalArgumentException.class, () -> repository.update(ended));
+
+            assertEquals(0, ended.getVersion());
+            assertEquals(List.of(session.getId()),
+                  repository.findActive().stream().map(Session::getId).toList());
+            assertEquals(session.getId(),
+                  repository.findActiveByClientId(session.getClientId()).orElseThrow().getId());
+        }
+    }
+}
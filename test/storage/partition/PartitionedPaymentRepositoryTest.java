@@ -0,0 +1,83 @@
+package storage.partition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import models.entities.Payment;
+import models.enums.PaymentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.index.SessionPaymentIndex;
+import storage.repository.GroupCommitWriter;
+
+class PartitionedPaymentRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private GroupCommitWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new GroupCommitWriter(GroupCommitWriter.DEFAULT_WINDOW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.close();
+    }
+
+    private PartitionedPaymentRepository open() {
+        return new PartitionedPaymentRepository(directory.toString(), PartitionGranularity.MONTH,
+              2, writer);
+    }
+
+    private static SessionPaymentIndex sessionIndex(PartitionedPaymentRepository repository) {
+        return (SessionPaymentIndex) repository.getIndexes().getFirst();
+    }
+
+    @Test
+    void sessionIndexIsSavedOnClose() {
+        Payment payment = new Payment(UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("30"),
+              LocalDateTime.of(2024, 5, 1, 9, 0), PaymentType.BY_CARD);
+        PartitionedPaymentRepository repository = open();
+        repository.save(payment);
+        repository.close();
+
+        PartitionedPaymentRepository reopened = open();
+        assertTrue(sessionIndex(reopened).isRestored());
+        assertEquals(payment.getId(),
+              reopened.findBySessionId(payment.getSessionId()).orElseThrow().getId());
+
+        reopened.delete(payment.getId());
+        PartitionedPaymentRepository unclosed = open();
+        assertFalse(sessionIndex(unclosed).isRestored());
+        assertTrue(unclosed.findBySessionId(payment.getSessionId()).isEmpty());
+
+        unclosed.close();
+        PartitionedPaymentRepository afterDelete = open();
+        assertTrue(sessionIndex(afterDelete).isRestored());
+        assertTrue(afterDelete.findBySessionId(payment.getSessionId()).isEmpty());
+    }
+
+    @Test
+    void staleSessionIndexIsRebuilt() throws Exception {
+        Payment payment = new Payment(UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("30"),
+              LocalDateTime.of(2024, 5, 1, 9, 0), PaymentType.CASH);
+        open().save(payment);
+        Path partition = directory.resolve("2024-05.json");
+        Files.writeString(partition, Files.readString(partition) + "\n");
+
+        PartitionedPaymentRepository reopened = open();
+        assertFalse(sessionIndex(reopened).isRestored());
+        assertTrue(reopened.findBySessionId(payment.getSessionId()).isPresent());
+    }
+}
@@ -0,0 +1,157 @@
+package storage.partition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import models.entities.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.repository.GroupCommitWriter;
+
+class PartitionedRepositoryTest {
+
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2024, 1, 10, 12, 0);
+
+    @TempDir
+    Path directory;
+
+    private GroupCommitWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new GroupCommitWriter(GroupCommitWriter.DEFAULT_WINDOW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.close();
+    }
+
+    private PartitionedSessionRepository open() {
+        return new PartitionedSessionRepository(directory.toString(), PartitionGranularity.MONTH,
+              1, writer);
+    }
+
+    private static Session session(LocalDateTime start) {
+        return new Session(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+              UUID.randomUUID(), start, null, null, true);
+    }
+
+    @Test
+    void findsByIdWithoutOpeningOtherPartitions() {
+        Session oldest = session(JANUARY);
+        open().importAll(List.of(oldest, session(JANUARY.plusMonths(1)),
+              session(JANUARY.plusMonths(2))));
+
+        PartitionedSessionRepository repository = open();
+        assertEquals(0, repository.getLoadedPartitionCount());
+        assertTrue(repository.findById(oldest.getId()).isPresent());
+        assertEquals(1, repository.getLoadedPartitionCount());
+        assertTrue(repository.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void rebuildsLocationsWhenPartitionsChangedUnseen() {
+        Session session = session(JANUARY);
+        PartitionedSessionRepository first = open();
+        first.save(session(JANUARY.plusMonths(3)));
+        first.save(session);
+
+        assertTrue(open().findById(session.getId()).isPresent());
+    }
+
+    @Test
+    void updateMovesEntityBetweenPartitions() {
+        Session session = session(JANUARY);
+        PartitionedSessionRepository repository = open();
+        repository.save(session);
+        repository.save(session(JANUARY.plusMonths(1)));
+
+        Session moved = new Session(session.getId(), session.getClientId(),
+              session.getComputerId(), session.getTariffId(), JANUARY.plusMonths(2),
+              JANUARY.plusMonths(2).plusHours(1), new BigDecimal("60"), false);
+        moved.setVersion(session.getVersion());
+        repository.update(moved);
+
+        for (PartitionedSessionRepository reader : List.of(repository, open())) {
+            List<Session> stored = reader.findAll().stream()
+                  .filter(found -> found.getId().equals(session.getId()))
+                  .toList();
+            assertEquals(1, stored.size());
+            assertEquals(JANUARY.plusMonths(2), stored.getFirst().getStartTime());
+            assertEquals(3, reader.getPartitionCount());
+        }
+    }
+
+    @Test
+    void persistsDirectoryOnCloseOnly() {
+        Path directoryFile = directory.resolve("partitions.idx");
+        Session session = session(JANUARY);
+        PartitionedSessionRepository repository = open();
+        repository.save(session(JANUARY.plusMonths(1)));
+        repository.save(session);
+        assertFalse(Files.exists(directoryFile));
+
+        repository.close();
+        assertTrue(Files.exists(directoryFile));
+
+        PartitionedSessionRepository reopened = open();
+        assertEquals(0, reopened.getLoadedPartitionCount());
+        assertTrue(reopened.findById(session.getId()).isPresent());
+        assertEquals(1, reopened.getLoadedPartitionCount());
+    }
+
+    @Test
+    void findsActiveSessionsWithoutScanningPartitions() {
+        Session active = session(JANUARY.plusMonths(2));
+        Session ended = new Session(UUID.randomUUID(), active.getClientId(), UUID.randomUUID(),
+              UUID.randomUUID(), JANUARY, JANUARY.plusHours(1), new BigDecimal("60"), false);
+        PartitionedSessionRepository repository = open();
+        repository.importAll(List.of(ended, session(JANUARY.plusMonths(1)), active));
+        repository.close();
+
+        PartitionedSessionRepository reopened = new PartitionedSessionRepository(
+              directory.toString(), PartitionGranularity.MONTH, 3, writer);
+        assertEquals(active.getId(),
+              reopened.findActiveByClientId(active.getClientId()).orElseThrow().getId());
+        assertEquals(1, reopened.getLoadedPartitionCount());
+        assertTrue(reopened.findActiveByComputerId(ended.getComputerId()).isEmpty());
+        assertEquals(2, reopened.findActive().size());
+    }
+
+    @Test
+    void readsAreCopiesAndFailedChangesKeepVersions() throws Exception {
+        Session session = session(JANUARY);
+        PartitionedSessionRepository repository = open();
+        repository.save(session);
+
+        repository.findById(session.getId()).orElseThrow().setVersion(5);
+        assertEquals(0, repository.findById(session.getId()).orElseThrow().getVersion());
+
+        Session ended = new Session(session.getId(), session.getClientId(),
+              session.getComputerId(), session.getTariffId(), JANUARY, JANUARY.plusHours(1),
+              new BigDecimal("60"), false);
+        Files.createDirectories(directory.resolve("2024-01.json.tmp"));
+        assertThrows(RuntimeException.class,
+              () -> repository.applyChanges(List.of(), List.of(ended), List.of()));
+        assertEquals(0, ended.getVersion());
+        assertNull(repository.findById(session.getId()).orElseThrow().getEndTime());
+        assertEquals(1, repository.findActive().size());
+
+        Files.delete(directory.resolve("2024-01.json.tmp"));
+        repository.applyChanges(List.of(), List.of(ended), List.of());
+        assertEquals(1, ended.getVersion());
+        assertTrue(repository.findActive().isEmpty());
+    }
+}
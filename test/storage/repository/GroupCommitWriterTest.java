@@ -0,0 +1,67 @@
+package storage.repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GroupCommitWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void loneWriteDoesNotWaitForWindow() throws IOException {
+        Path file = directory.resolve("lone.log");
+        try (GroupCommitWriter writer = new GroupCommitWriter(Duration.ofSeconds(5))) {
+            long started = System.nanoTime();
+            writer.append(file, "a\n".getBytes(StandardCharsets.UTF_8));
+            writer.append(file, "b\n".getBytes(StandardCharsets.UTF_8));
+
+            assertTrue(Duration.ofNanos(System.nanoTime() - started).toSeconds() < 5);
+        }
+        assertArrayEquals("a\nb\n".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file));
+    }
+
+    @Test
+    void closeSettlesEverySubmittedWrite() throws InterruptedException {
+        Path file = directory.resolve("closing.log");
+        GroupCommitWriter writer = new GroupCommitWriter(GroupCommitWriter.DEFAULT_WINDOW);
+        Queue<CompletableFuture<Void>> futures = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = List.of(submitter(writer, file, futures),
+              submitter(writer, file, futures), submitter(writer, file, futures));
+
+        Thread.sleep(5);
+        writer.close();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (CompletableFuture<Void> future : futures) {
+            assertTrue(future.isDone());
+        }
+    }
+
+    private static Thread submitter(GroupCommitWriter writer, Path file,
+          Queue<CompletableFuture<Void>> futures) {
+        return Thread.ofPlatform().start(() -> {
+            try {
+                while (true) {
+                    futures.add(writer.submitAppend(file, new byte[] {'x'}));
+                }
+            } catch (IllegalStateException e) {
+                return;
+            }
+        });
+    }
+}
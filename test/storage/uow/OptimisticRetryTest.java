@@ -0,0 +1,55 @@
+package storage.uow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import storage.contracts.StaleEntityException;
+
+class OptimisticRetryTest {
+
+    @Test
+    void retriesStaleConflicts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = OptimisticRetry.call(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new RuntimeException(new StaleEntityException(UUID.randomUUID(), 1, 2));
+            }
+            return "готово";
+        });
+
+        assertEquals("готово", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void givesUpAfterLastAttempt() {
+        AtomicInteger attempts = new AtomicInteger();
+        StaleEntityException conflict = new StaleEntityException(UUID.randomUUID(), 1, 2);
+
+        StaleEntityException thrown = assertThrows(StaleEntityException.class,
+              () -> OptimisticRetry.call(2, () -> {
+                  attempts.incrementAndGet();
+                  throw conflict;
+              }));
+
+        assertSame(conflict, thrown);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void doesNotRetryOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalArgumentException.class, () -> OptimisticRetry.run(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("Невірні дані");
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+}
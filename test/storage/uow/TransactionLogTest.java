@@ -0,0 +1,169 @@
+package storage.uow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import models.entities.Client;
+import models.entities.Payment;
+import models.enums.PaymentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.cache.CacheOptions;
+import storage.cache.CachedClientRepository;
+import storage.cache.CachedPaymentRepository;
+import storage.repository.GroupCommitWriter;
+import storage.repository.JsonFileStore;
+
+class TransactionLogTest {
+
+    @TempDir
+    Path directory;
+
+    private GroupCommitWriter writer;
+    private CachedClientRepository clients;
+    private CachedPaymentRepository payments;
+    private TransactionLog log;
+
+    @BeforeEach
+    void setUp() {
+        writer = new GroupCommitWriter(GroupCommitWriter.DEFAULT_WINDOW);
+        reopen();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.close();
+    }
+
+    private void reopen() {
+        clients = new CachedClientRepository(new JsonFileStore<>(
+              directory.resolve("clients.json").toString(), Client.class, writer),
+              CacheOptions.writeThrough());
+        payments = new CachedPaymentRepository(new JsonFileStore<>(
+              directory.resolve("payments.json").toString(), Payment.class, writer),
+              CacheOptions.writeThrough());
+        log = new TransactionLog(directory.resolve("transactions.log"), writer);
+        log.register("clients", clients, Client.class);
+        log.register("payments", payments, Payment.class);
+    }
+
+    private Client client() {
+        return clients.save(new Client("гравець", "player@example.com", new BigDecimal("500"), 0,
+              BigDecimal.ZERO, LocalDateTime.now()));
+    }
+
+    private static Client charged(Client client, String balance) {
+        Client copy = new Client(client.getId(), client.getNickname(), client.getEmail(),
+              new BigDecimal(balance), client.getVisitCount() + 1, client.getDiscountPercent(),
+              client.getRegistrationDate());
+        copy.setVersion(client.getVersion());
+        return copy;
+    }
+
+    private Payment payment() {
+        return new Payment(UUID.randomUUID(), new BigDecimal("100"), PaymentType.CASH);
+    }
+
+    private BigDecimal balance(UUID clientId) {
+        return clients.findById(clientId).orElseThrow().getBalance();
+    }
+
+    @Test
+    void committedTransactionLeavesNothingToRecover() {
+        Client client = client();
+        Payment payment = payment();
+
+        Transaction transaction = new Transaction(log);
+        transaction.registerDirty(clients, charged(client, "400"));
+        transaction.registerNew(payments, payment);
+        transaction.commit();
+
+        assertEquals(0, log.getInFlight());
+        reopen();
+        assertEquals(0, log.recover());
+        assertEquals(0, new BigDecimal("400").compareTo(balance(client.getId())));
+        assertTrue(payments.findById(payment.getId()).isPresent());
+    }
+
+    @Test
+    void recoveryRollsForwardAnInterruptedTransaction() {
+        Client client = client();
+        Payment payment = payment();
+        Client updated = charged(client, "400");
+        log.begin(List.of(
+              new TransactionLog.Change<>(clients, List.of(), List.of(updated), Map.of()),
+              new TransactionLog.Change<>(payments, List.of(payment), List.of(), Map.of())));
+        clients.update(updated);
+
+        reopen();
+        assertEquals(1, log.recover());
+
+        assertEquals(0, new BigDecimal("400").compareTo(balance(client.getId())));
+        assertEquals(1, clients.findById(client.getId()).orElseThrow().getVersion());
+        assertTrue(payments.findById(payment.getId()).isPresent());
+
+        reopen();
+        assertEquals(0, log.recover());
+        assertEquals(1, clients.findById(client.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void recoverySkipsSupersededTransaction() {
+        Client client = client();
+        Payment payment = payment();
+        UUID id = log.begin(List.of(
+              new TransactionLog.Change<>(clients, List.of(), List.of(charged(client, "400")),
+                    Map.of()),
+              new TransactionLog.Change<>(payments, List.of(payment), List.of(), Map.of())));
+        clients.update(charged(client, "300"));
+        clients.update(charged(clients.findById(client.getId()).orElseThrow(), "200"));
+
+        reopen();
+        assertEquals(0, log.recover());
+        assertEquals(List.of(id), log.getSkipped());
+
+        assertEquals(0, new BigDecimal("200").compareTo(balance(client.getId())));
+        assertTrue(payments.findById(payment.getId()).isEmpty());
+    }
+
+    @Test
+    void failedCommitIsCompensatedAndAborted() throws IOException {
+        Client client = client();
+        Payment payment = payment();
+        Files.createDirectories(directory.resolve("payments.json.tmp"));
+
+        Transaction transaction = new Transaction(log);
+        transaction.registerDirty(clients, charged(client, "400"));
+        transaction.registerNew(payments, payment);
+        assertThrows(RuntimeException.class, transaction::commit);
+        assertFalse(transaction.isPendingRecovery());
+        Files.delete(directory.resolve("payments.json.tmp"));
+
+        reopen();
+        assertEquals(0, log.recover());
+        assertEquals(0, new BigDecimal("500").compareTo(balance(client.getId())));
+        assertTrue(payments.findById(payment.getId()).isEmpty());
+    }
+
+    @Test
+    void rejectsUnregisteredRepository() {
+        Transaction transaction = new Transaction(new TransactionLog(
+              directory.resolve("other.log"), writer));
+        transaction.registerNew(payments, payment());
+
+        assertThrows(RuntimeException.class, transaction::commit);
+        assertTrue(payments.findAll().isEmpty());
+    }
+}
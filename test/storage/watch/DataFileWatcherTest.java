@@ -0,0 +1,106 @@
+package storage.watch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.contracts.Reloadable;
+import storage.repository.GroupCommitWriter;
+
+class DataFileWatcherTest {
+
+    private static final Duration DEBOUNCE = Duration.ofMillis(20);
+
+    @TempDir
+    Path directory;
+
+    private GroupCommitWriter writer;
+    private DataFileWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        writer = new GroupCommitWriter(GroupCommitWriter.DEFAULT_WINDOW);
+        watcher = new DataFileWatcher(writer, DEBOUNCE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.close();
+        writer.close();
+    }
+
+    private static void await(BooleanSupplier condition)
+          throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void retriesReloadRefusedWhileDirty() throws IOException, InterruptedException {
+        Path file = directory.resolve("clients.json");
+        Files.writeString(file, "[]");
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger reloaded = new AtomicInteger();
+        watcher.register(new Reloadable() {
+            @Override
+            public boolean reload() {
+                if (attempts.incrementAndGet() < 3) {
+                    return false;
+                }
+                reloaded.incrementAndGet();
+                return true;
+            }
+
+            @Override
+            public List<Path> getWatchedFiles() {
+                return List.of(file);
+            }
+        });
+
+        Files.writeString(file, "[{}]");
+        await(() -> reloaded.get() > 0);
+
+        assertEquals(1, reloaded.get());
+        assertTrue(watcher.getDeferredReloads() >= 2);
+        assertEquals(1, watcher.getReloads());
+    }
+
+    @Test
+    void recordsFailedReloads() throws IOException, InterruptedException {
+        Path file = directory.resolve("tariffs.json");
+        Files.writeString(file, "[]");
+        watcher.register(new Reloadable() {
+            @Override
+            public boolean reload() {
+                throw new IllegalArgumentException("Файл пошкоджено");
+            }
+
+            @Override
+            public List<Path> getWatchedFiles() {
+                return List.of(file);
+            }
+        });
+
+        Files.writeString(file, "{");
+        await(() -> watcher.getFailedReloads() >= DataFileWatcher.MAX_FAILED_ATTEMPTS);
+        Thread.sleep(DEBOUNCE.toMillis() * 5);
+        long failed = watcher.getFailedReloads();
+        Thread.sleep(DEBOUNCE.toMillis() * 5);
+
+        assertEquals(failed, watcher.getFailedReloads());
+        assertEquals("Файл пошкоджено", watcher.getLastFailure().orElseThrow().getMessage());
+        assertEquals(0, watcher.getReloads());
+    }
+}